@@ -0,0 +1,29 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - initial API and implementation
+ *
+ */
+
+plugins {
+    `java-library`
+}
+
+dependencies {
+    api(project(":spi:common:aws-spi"))
+    api(libs.edc.spi.core)
+    api(libs.aws.s3)
+    implementation(libs.zstd.jni)
+
+    testImplementation(libs.edc.junit)
+    testImplementation(libs.aws.crt)
+    testImplementation(libs.testcontainers.junit.jupiter)
+    testImplementation(libs.testcontainers.localstack)
+}
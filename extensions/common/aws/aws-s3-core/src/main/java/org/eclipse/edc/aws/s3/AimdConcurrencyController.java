@@ -0,0 +1,125 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import java.util.function.LongSupplier;
+
+/**
+ * Limits the number of requests in flight with an additive-increase/multiplicative-decrease (AIMD) controller.
+ * <p>
+ * The limit is adjusted once per window, which ends after as many requests completed as the limit allowed at its
+ * start. If no request was throttled in the window, the limit grows by one as long as the throughput of the window
+ * is at least {@value #THROUGHPUT_TOLERANCE} times the throughput of the previous window, and shrinks by one
+ * otherwise, as more requests then only add queueing on a saturated link. A throttled request halves the limit
+ * immediately; further throttling reported for requests of the same window is ignored, as those were sent before the
+ * decrease took effect.
+ * <p>
+ * With equal minimum and maximum limits the controller is a plain concurrency limit.
+ */
+public class AimdConcurrencyController {
+
+    static final double THROUGHPUT_TOLERANCE = 0.9;
+    static final double DECREASE_FACTOR = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final LongSupplier nanoTime;
+    private int limit;
+    private int inFlight;
+    private long windowStart;
+    private long windowBytes;
+    private int windowCompletions;
+    private boolean windowThrottled;
+    private double previousThroughput;
+
+    public AimdConcurrencyController(int initialLimit, int minLimit, int maxLimit) {
+        this(initialLimit, minLimit, maxLimit, System::nanoTime);
+    }
+
+    AimdConcurrencyController(int initialLimit, int minLimit, int maxLimit, LongSupplier nanoTime) {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Invalid concurrency limits [%d, %d]".formatted(minLimit, maxLimit));
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.nanoTime = nanoTime;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.windowStart = nanoTime.getAsLong();
+    }
+
+    /**
+     * Takes a slot for a request if fewer requests than the limit are in flight.
+     *
+     * @return whether the request may be sent
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Returns the slot of a request that ended, successfully or not.
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    /**
+     * Reports a successful request.
+     *
+     * @param bytes the payload bytes of the request
+     */
+    public synchronized void completed(long bytes) {
+        windowBytes += bytes;
+        if (++windowCompletions < limit) {
+            return;
+        }
+        var elapsed = Math.max(1, nanoTime.getAsLong() - windowStart);
+        var throughput = windowBytes * 1e9 / elapsed;
+        if (!windowThrottled) {
+            limit = throughput >= previousThroughput * THROUGHPUT_TOLERANCE ? Math.min(maxLimit, limit + 1) : Math.max(minLimit, limit - 1);
+        }
+        previousThroughput = throughput;
+        startWindow();
+    }
+
+    /**
+     * Reports a request that S3 answered with {@code 503 SlowDown}.
+     */
+    public synchronized void throttled() {
+        if (windowThrottled) {
+            return;
+        }
+        limit = Math.max(minLimit, (int) (limit * DECREASE_FACTOR));
+        startWindow();
+        windowThrottled = true;
+        // the next window measures the reduced limit, don't let it compete with the congested one
+        previousThroughput = 0;
+    }
+
+    public synchronized int limit() {
+        return limit;
+    }
+
+    private void startWindow() {
+        windowStart = nanoTime.getAsLong();
+        windowBytes = 0;
+        windowCompletions = 0;
+        windowThrottled = false;
+    }
+}
@@ -0,0 +1,218 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Compresses a request body while it is streamed.
+ * <p>
+ * The content is cut into chunks of {@code chunkSize} bytes that are compressed independently on the given executor,
+ * up to {@code maxChunksInFlight} at a time, and emitted in order. The source is only read ahead while fewer chunks
+ * are in flight, so memory stays bounded by about {@code maxChunksInFlight} chunks regardless of the content size.
+ * A chunk buffer is sized to the content left when the source announces its length, and otherwise starts at
+ * {@value #INITIAL_CHUNK_CAPACITY} bytes and grows up to {@code chunkSize}, so small bodies don't allocate whole chunks.
+ * The length of the compressed content is not known in advance; the S3 clients upload such bodies in parts.
+ */
+class CompressingRequestBody implements AsyncRequestBody {
+
+    static final int INITIAL_CHUNK_CAPACITY = 64 * 1024;
+
+    private final AsyncRequestBody source;
+    private final S3CompressionCodec codec;
+    private final int level;
+    private final int chunkSize;
+    private final int maxChunksInFlight;
+    private final Executor executor;
+
+    CompressingRequestBody(AsyncRequestBody source, S3CompressionCodec codec, int level, int chunkSize, int maxChunksInFlight, Executor executor) {
+        this.source = source;
+        this.codec = codec;
+        this.level = level;
+        this.chunkSize = chunkSize;
+        this.maxChunksInFlight = maxChunksInFlight;
+        this.executor = executor;
+    }
+
+    @Override
+    public Optional<Long> contentLength() {
+        return Optional.empty();
+    }
+
+    @Override
+    public String contentType() {
+        return source.contentType();
+    }
+
+    @Override
+    public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+        source.subscribe(new Pipeline(subscriber));
+    }
+
+    /**
+     * Subscribes to the source and serves the downstream subscriber. All signals to the downstream subscriber and
+     * all requests to the source are issued from {@link #drain()}, which runs on one thread at a time.
+     */
+    private final class Pipeline implements Subscriber<ByteBuffer>, Subscription {
+        private final Subscriber<? super ByteBuffer> downstream;
+        private final Queue<CompletableFuture<byte[]>> chunks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicBoolean sourceRequested = new AtomicBoolean();
+        private volatile Subscription upstream;
+        private volatile boolean sourceCompleted;
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+        private byte[] chunk;
+        private int chunkLength;
+        private long received;
+        private boolean submitted;
+        private boolean done;
+
+        private Pipeline(Subscriber<? super ByteBuffer> downstream) {
+            this.downstream = downstream;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            upstream = subscription;
+            downstream.onSubscribe(this);
+        }
+
+        @Override
+        public void onNext(ByteBuffer buffer) {
+            while (buffer.hasRemaining()) {
+                if (chunk == null) {
+                    chunk = new byte[initialCapacity()];
+                } else if (chunkLength == chunk.length) {
+                    chunk = Arrays.copyOf(chunk, (int) Math.min(chunkSize, 2L * chunk.length));
+                }
+                var length = Math.min(buffer.remaining(), chunk.length - chunkLength);
+                buffer.get(chunk, chunkLength, length);
+                chunkLength += length;
+                received += length;
+                if (chunkLength == chunkSize) {
+                    submitChunk();
+                }
+            }
+            sourceRequested.set(false);
+            drain();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            drain();
+        }
+
+        @Override
+        public void onComplete() {
+            // empty content still needs one member or frame to be valid compressed content
+            if (chunk != null || !submitted) {
+                submitChunk();
+            }
+            sourceCompleted = true;
+            drain();
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested %d elements, must be positive".formatted(n));
+                upstream.cancel();
+            } else {
+                demand.getAndAccumulate(n, (current, requested) -> current + requested < 0 ? Long.MAX_VALUE : current + requested);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            upstream.cancel();
+        }
+
+        private int initialCapacity() {
+            var remaining = source.contentLength().map(length -> length - received).filter(length -> length > 0);
+            return (int) Math.min(chunkSize, remaining.orElse((long) INITIAL_CHUNK_CAPACITY));
+        }
+
+        private void submitChunk() {
+            var input = chunk == null ? new byte[0] : chunk;
+            var length = chunkLength;
+            chunk = null;
+            chunkLength = 0;
+            submitted = true;
+            CompletableFuture<byte[]> compressed;
+            try {
+                compressed = CompletableFuture.supplyAsync(() -> codec.compress(input, length, level), executor);
+            } catch (RuntimeException e) {
+                compressed = CompletableFuture.failedFuture(e);
+            }
+            chunks.add(compressed);
+            compressed.whenComplete((result, throwable) -> drain());
+        }
+
+        private void drain() {
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                if (done || cancelled) {
+                    continue;
+                }
+
+                CompletableFuture<byte[]> head;
+                while (error == null && demand.get() > 0 && (head = chunks.peek()) != null && head.isDone()) {
+                    chunks.poll();
+                    try {
+                        var compressed = head.join();
+                        demand.decrementAndGet();
+                        downstream.onNext(ByteBuffer.wrap(compressed));
+                    } catch (CompletionException | CancellationException e) {
+                        error = e.getCause() != null ? e.getCause() : e;
+                        upstream.cancel();
+                    }
+                }
+
+                if (error != null) {
+                    done = true;
+                    chunks.forEach(future -> future.cancel(false));
+                    downstream.onError(error);
+                } else if (sourceCompleted && chunks.isEmpty()) {
+                    done = true;
+                    downstream.onComplete();
+                } else if (!sourceCompleted && chunks.size() < maxChunksInFlight && sourceRequested.compareAndSet(false, true)) {
+                    upstream.request(1);
+                }
+            } while (wip.decrementAndGet() != 0);
+        }
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.awscore.AwsRequestOverrideConfiguration;
+import software.amazon.awssdk.services.s3.DelegatingS3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.S3Request;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * Signs every request sent through a shared client with the given credentials, by setting them as request override
+ * configuration. Other override configuration of the request is kept. Closing this client leaves the shared client
+ * open.
+ */
+class CredentialsOverridingS3AsyncClient extends DelegatingS3AsyncClient {
+
+    private final AwsCredentialsProvider credentialsProvider;
+
+    CredentialsOverridingS3AsyncClient(S3AsyncClient delegate, AwsCredentialsProvider credentialsProvider) {
+        super(delegate);
+        this.credentialsProvider = credentialsProvider;
+    }
+
+    AwsCredentialsProvider credentialsProvider() {
+        return credentialsProvider;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    protected <T extends S3Request, ReturnT> CompletableFuture<ReturnT> invokeOperation(T request, Function<T, CompletableFuture<ReturnT>> operation) {
+        var override = request.overrideConfiguration()
+                .map(AwsRequestOverrideConfiguration::toBuilder)
+                .orElseGet(AwsRequestOverrideConfiguration::builder)
+                .credentialsProvider(credentialsProvider)
+                .build();
+        return operation.apply((T) request.toBuilder().overrideConfiguration(override).build());
+    }
+
+    @Override
+    public void close() {
+    }
+}
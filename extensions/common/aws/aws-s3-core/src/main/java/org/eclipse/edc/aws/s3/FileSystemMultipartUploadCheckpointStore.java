@@ -0,0 +1,217 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpoint;
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Stores each {@link MultipartUploadCheckpoint} as a properties file in a local directory.
+ * <p>
+ * The first checkpoint of an upload is written to a temporary file that is synced and atomically moved in place, so
+ * a crash while saving leaves the previous checkpoint intact. Parts completed afterwards are appended to that file and
+ * synced, so saving a part costs the same regardless of how many parts have been completed before. A part that was
+ * only partially appended when the process crashed is ignored, and its part is uploaded again.
+ */
+public class FileSystemMultipartUploadCheckpointStore implements MultipartUploadCheckpointStore {
+
+    private static final String PART_PREFIX = "part.";
+    private static final String CHECKSUM_PREFIX = "checksum.";
+
+    private final Path directory;
+    private final Map<String, MultipartUploadCheckpoint> written = new ConcurrentHashMap<>();
+
+    public FileSystemMultipartUploadCheckpointStore(Path directory) {
+        this.directory = directory;
+        try {
+            Files.createDirectories(directory);
+        } catch (IOException e) {
+            throw new EdcException("Cannot create checkpoint directory " + directory, e);
+        }
+    }
+
+    @Override
+    public @Nullable MultipartUploadCheckpoint find(String transferId) {
+        var file = file(transferId);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        var properties = new Properties();
+        try {
+            var content = Files.readString(file, StandardCharsets.UTF_8);
+            // a line without its line terminator was cut off by a crash while it was appended
+            properties.load(new StringReader(content.substring(0, content.lastIndexOf('\n') + 1)));
+        } catch (IOException e) {
+            throw new EdcException("Cannot read checkpoint " + file, e);
+        }
+
+        try {
+            var parts = new ArrayList<MultipartUploadCheckpoint.Part>();
+            properties.stringPropertyNames().stream()
+                    .filter(name -> name.startsWith(PART_PREFIX))
+                    .map(name -> name.substring(PART_PREFIX.length()))
+                    .forEach(partNumber -> parts.add(new MultipartUploadCheckpoint.Part(Integer.parseInt(partNumber),
+                            properties.getProperty(PART_PREFIX + partNumber), properties.getProperty(CHECKSUM_PREFIX + partNumber))));
+
+            // checkpoints written without the file identity never match a file, so their upload is restarted
+            return new MultipartUploadCheckpoint(required(properties, "bucket"), required(properties, "key"), required(properties, "uploadId"),
+                    Long.parseLong(required(properties, "partSize")), Long.parseLong(properties.getProperty("fileSize", "-1")),
+                    Long.parseLong(properties.getProperty("fileModified", "-1")), parts);
+        } catch (NumberFormatException e) {
+            throw new EdcException("Corrupt checkpoint %s: %s".formatted(file, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public synchronized StoreResult<Void> save(String transferId, MultipartUploadCheckpoint checkpoint) {
+        var file = file(transferId);
+        var previous = written.get(transferId);
+        try {
+            if (previous != null && isContinuation(previous, checkpoint) && Files.exists(file)) {
+                var parts = checkpoint.completedParts().stream()
+                        .filter(part -> !previous.completedParts().contains(part))
+                        .toList();
+                append(file, parts);
+            } else {
+                replace(file, checkpoint);
+            }
+            written.put(transferId, checkpoint);
+            return StoreResult.success();
+        } catch (IOException e) {
+            written.remove(transferId);
+            return StoreResult.generalError("Cannot write checkpoint %s: %s".formatted(file, e.getMessage()));
+        }
+    }
+
+    @Override
+    public StoreResult<Void> delete(String transferId) {
+        try {
+            written.remove(transferId);
+            Files.deleteIfExists(file(transferId));
+            return StoreResult.success();
+        } catch (IOException e) {
+            return StoreResult.generalError("Cannot delete checkpoint of transfer %s: %s".formatted(transferId, e.getMessage()));
+        }
+    }
+
+    private void replace(Path file, MultipartUploadCheckpoint checkpoint) throws IOException {
+        var properties = new Properties();
+        properties.setProperty("bucket", checkpoint.bucket());
+        properties.setProperty("key", checkpoint.key());
+        properties.setProperty("uploadId", checkpoint.uploadId());
+        properties.setProperty("partSize", String.valueOf(checkpoint.partSize()));
+        properties.setProperty("fileSize", String.valueOf(checkpoint.fileSize()));
+        properties.setProperty("fileModified", String.valueOf(checkpoint.fileModified()));
+        var temporary = Files.createTempFile(directory, "checkpoint", ".tmp");
+        try {
+            try (var channel = FileChannel.open(temporary, WRITE)) {
+                write(channel, format(properties) + format(checkpoint.completedParts()));
+            }
+            Files.move(temporary, file, ATOMIC_MOVE, REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temporary);
+        }
+    }
+
+    private void append(Path file, List<MultipartUploadCheckpoint.Part> parts) throws IOException {
+        if (parts.isEmpty()) {
+            return;
+        }
+        try (var channel = FileChannel.open(file, WRITE, APPEND)) {
+            write(channel, format(parts));
+        }
+    }
+
+    private void write(FileChannel channel, String content) throws IOException {
+        var buffer = ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        channel.force(false);
+    }
+
+    private String format(List<MultipartUploadCheckpoint.Part> parts) throws IOException {
+        var builder = new StringBuilder();
+        for (var part : parts) {
+            // the checksum goes first, so a part is only read back once both of its lines are complete
+            var properties = new Properties();
+            if (part.checksum() != null) {
+                properties.setProperty(CHECKSUM_PREFIX + part.partNumber(), part.checksum());
+            }
+            builder.append(format(properties));
+            properties.clear();
+            properties.setProperty(PART_PREFIX + part.partNumber(), part.eTag());
+            builder.append(format(properties));
+        }
+        return builder.toString();
+    }
+
+    private String format(Properties properties) throws IOException {
+        var writer = new StringWriter();
+        properties.store(writer, null);
+        // Properties.store always starts with a timestamp comment, which would otherwise be repeated for every part
+        return writer.toString().lines()
+                .filter(line -> !line.startsWith("#"))
+                .map(line -> line + "\n")
+                .collect(Collectors.joining());
+    }
+
+    /**
+     * Whether the checkpoint only adds parts to the one written before, so that the new parts can be appended.
+     */
+    private boolean isContinuation(MultipartUploadCheckpoint previous, MultipartUploadCheckpoint checkpoint) {
+        return previous.bucket().equals(checkpoint.bucket()) && previous.key().equals(checkpoint.key()) &&
+                previous.uploadId().equals(checkpoint.uploadId()) && previous.partSize() == checkpoint.partSize() &&
+                previous.fileSize() == checkpoint.fileSize() && previous.fileModified() == checkpoint.fileModified() &&
+                checkpoint.completedParts().containsAll(previous.completedParts());
+    }
+
+    private String required(Properties properties, String name) {
+        var value = properties.getProperty(name);
+        if (value == null) {
+            throw new EdcException("Corrupt checkpoint, %s is missing".formatted(name));
+        }
+        return value;
+    }
+
+    private Path file(String transferId) {
+        var name = Base64.getUrlEncoder().withoutPadding().encodeToString(transferId.getBytes(StandardCharsets.UTF_8));
+        return directory.resolve(name + ".properties");
+    }
+}
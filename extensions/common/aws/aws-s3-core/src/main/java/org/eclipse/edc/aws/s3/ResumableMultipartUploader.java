@@ -0,0 +1,462 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpoint;
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.FileRequestBodyConfiguration;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.http.HttpMetric;
+import software.amazon.awssdk.metrics.MetricCollection;
+import software.amazon.awssdk.metrics.MetricPublisher;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Uploads a local file to an {@code AmazonS3} destination as a multipart upload that survives restarts.
+ * <p>
+ * The upload id and every acknowledged part with its ETag are written to a {@link MultipartUploadCheckpointStore}.
+ * When the upload of the same transfer is started again, e.g. after a crash or a failed part, it continues with the
+ * parts missing from the checkpoint instead of starting from the first part. The checkpoint is deleted once the
+ * upload has been completed. Failed uploads are deliberately not aborted, so their parts remain available for
+ * resumption; a bucket lifecycle rule should clean up uploads that are never resumed.
+ * <p>
+ * The checkpoint records the size and last modification time of the file. An upload is only resumed if the file,
+ * the destination object and the part size are unchanged; otherwise the checkpointed upload is aborted and the file
+ * is uploaded from the first part. A file modified while it is uploaded fails the upload before it is completed.
+ * <p>
+ * With a checksum algorithm every part is uploaded with an additional S3 checksum. The uploader computes the same
+ * checksum from the local file on the {@code checksumExecutor} while the part is in flight, fails the part if it
+ * differs from the one S3 reports, and verifies the composite checksum of the object once the upload is completed.
+ * <p>
+ * With auto-tuning the part size is derived from the file size with {@link S3PartSizes}, using the configured part
+ * size as the minimum, and the number of parts in flight is adjusted between one and {@code maxConcurrency} by an
+ * {@link AimdConcurrencyController} fed with the throughput of the upload and the {@code 503 SlowDown} responses of
+ * S3. Every throttled attempt is reported to the controller once: those the SDK retried on its own by a request metric
+ * publisher, and the last one of a part that failed with {@code SlowDown} when the part ends, before the part is queued
+ * again after a backoff. Without auto-tuning, parts have the configured size and {@code maxConcurrency} parts are
+ * always in flight.
+ * <p>
+ * The requests of an upload carry the transfer id as {@link S3TransferMetricsInterceptor#TRANSFER_ID}, so the
+ * {@link org.eclipse.edc.aws.s3.spi.S3TransferMetrics} can report the throughput per transfer.
+ */
+public class ResumableMultipartUploader {
+
+    static final int MAX_THROTTLED_ATTEMPTS = 10;
+    static final Duration THROTTLE_BACKOFF = Duration.ofMillis(100);
+    private static final int SLOW_DOWN = 503;
+
+    private final S3TransferService transferService;
+    private final MultipartUploadCheckpointStore checkpointStore;
+    private final Monitor monitor;
+    private final long partSize;
+    private final int maxConcurrency;
+    private final boolean autoTune;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final Executor checksumExecutor;
+
+    public ResumableMultipartUploader(S3TransferService transferService, MultipartUploadCheckpointStore checkpointStore, Monitor monitor,
+                                      long partSize, int maxConcurrency, boolean autoTune, @Nullable ChecksumAlgorithm checksumAlgorithm, Executor checksumExecutor) {
+        this.transferService = transferService;
+        this.checkpointStore = checkpointStore;
+        this.monitor = monitor;
+        this.partSize = partSize;
+        this.maxConcurrency = maxConcurrency;
+        this.autoTune = autoTune;
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.checksumExecutor = checksumExecutor;
+    }
+
+    /**
+     * Uploads the file to the object the destination points to, resuming a previous attempt of the same transfer
+     * if a checkpoint exists.
+     *
+     * @param transferId  identifies the transfer across restarts
+     * @param destination the destination DataAddress
+     * @param file        the content to upload
+     * @return the response of the completed upload
+     */
+    public CompletableFuture<CompleteMultipartUploadResponse> upload(String transferId, DataAddress destination, Path file) {
+        long size;
+        long modified;
+        try {
+            size = Files.size(file);
+            modified = Files.getLastModifiedTime(file).toMillis();
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(new EdcException("Cannot read attributes of " + file, e));
+        }
+
+        long uploadPartSize;
+        try {
+            uploadPartSize = autoTune ? S3PartSizes.forObjectSize(size, partSize) : partSize;
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new EdcException(e.getMessage(), e));
+        }
+
+        var client = transferService.client(destination);
+        var location = S3ObjectLocation.from(destination);
+        return checkpoint(transferId, client, location, uploadPartSize, size, modified)
+                .thenCompose(checkpoint -> {
+                    var upload = new Upload(transferId, client, file, size, checkpoint);
+                    return uploadParts(upload).thenCompose(v -> complete(upload));
+                })
+                .whenComplete((response, throwable) -> {
+                    if (throwable != null && rootCause(throwable) instanceof NoSuchUploadException) {
+                        monitor.warning("Multipart upload of transfer %s no longer exists, the next attempt starts from scratch".formatted(transferId));
+                        checkpointStore.delete(transferId);
+                    }
+                });
+    }
+
+    private CompletableFuture<MultipartUploadCheckpoint> checkpoint(String transferId, S3AsyncClient client, S3ObjectLocation location, long uploadPartSize,
+                                                                    long size, long modified) {
+        var existing = findCheckpoint(transferId);
+        var stale = CompletableFuture.<Void>completedFuture(null);
+        if (existing != null) {
+            if (existing.bucket().equals(location.bucket()) && existing.key().equals(location.key()) && existing.partSize() == uploadPartSize &&
+                    existing.isSameFile(size, modified)) {
+                monitor.debug(() -> "Resuming upload of transfer %s after %d completed parts".formatted(transferId, existing.completedParts().size()));
+                return CompletableFuture.completedFuture(existing);
+            }
+            monitor.info("Checkpoint of transfer %s does not match the file or destination anymore, restarting the upload".formatted(transferId));
+            stale = abort(transferId, client, existing);
+        }
+
+        var request = CreateMultipartUploadRequest.builder()
+                .bucket(location.bucket())
+                .key(location.key())
+                .checksumAlgorithm(checksumAlgorithm)
+                .overrideConfiguration(override -> override.putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, transferId))
+                .build();
+        return stale.thenCompose(v -> client.createMultipartUpload(request))
+                .thenApply(response -> {
+                    var checkpoint = new MultipartUploadCheckpoint(location.bucket(), location.key(), response.uploadId(), uploadPartSize, size, modified, List.of());
+                    saveCheckpoint(transferId, checkpoint);
+                    return checkpoint;
+                });
+    }
+
+    /**
+     * Finds the checkpoint of the transfer. An unreadable checkpoint is deleted and treated as missing, so the upload
+     * starts over; its parts are removed by the bucket lifecycle rule.
+     */
+    private @Nullable MultipartUploadCheckpoint findCheckpoint(String transferId) {
+        try {
+            return checkpointStore.find(transferId);
+        } catch (RuntimeException e) {
+            monitor.warning("Cannot read checkpoint of transfer %s, restarting the upload: %s".formatted(transferId, e.getMessage()));
+            checkpointStore.delete(transferId);
+            return null;
+        }
+    }
+
+    /**
+     * Aborts the upload of a checkpoint that will not be resumed and deletes the checkpoint. A failure to abort is
+     * only logged, the bucket lifecycle rule eventually removes the parts.
+     */
+    private CompletableFuture<Void> abort(String transferId, S3AsyncClient client, MultipartUploadCheckpoint checkpoint) {
+        var request = AbortMultipartUploadRequest.builder()
+                .bucket(checkpoint.bucket())
+                .key(checkpoint.key())
+                .uploadId(checkpoint.uploadId())
+                .build();
+        return client.abortMultipartUpload(request)
+                .handle((response, throwable) -> {
+                    if (throwable != null && !(rootCause(throwable) instanceof NoSuchUploadException)) {
+                        monitor.warning("Cannot abort multipart upload %s of transfer %s: %s".formatted(checkpoint.uploadId(), transferId, rootCause(throwable).getMessage()));
+                    }
+                    checkpointStore.delete(transferId);
+                    return null;
+                });
+    }
+
+    private CompletableFuture<Void> uploadParts(Upload upload) {
+        var partSize = upload.checkpoint().partSize();
+        var partCount = (int) Math.max(1, (upload.size + partSize - 1) / partSize);
+        var pending = IntStream.rangeClosed(1, partCount)
+                .filter(partNumber -> !upload.checkpoint().isCompleted(partNumber))
+                .boxed()
+                .collect(Collectors.toCollection(ConcurrentLinkedQueue::new));
+        if (pending.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
+
+        var parts = new PartScheduler(upload, pending, concurrencyController());
+        parts.dispatch();
+        return parts.result;
+    }
+
+    AimdConcurrencyController concurrencyController() {
+        return autoTune
+                ? new AimdConcurrencyController(Math.max(1, maxConcurrency / 2), 1, maxConcurrency)
+                : new AimdConcurrencyController(maxConcurrency, maxConcurrency, maxConcurrency);
+    }
+
+    private CompletableFuture<MultipartUploadCheckpoint.Part> uploadPart(Upload upload, int partNumber, AimdConcurrencyController concurrency) {
+        var partSize = upload.checkpoint().partSize();
+        var offset = (partNumber - 1) * partSize;
+        var length = Math.min(partSize, upload.size - offset);
+        var request = UploadPartRequest.builder()
+                .bucket(upload.checkpoint().bucket())
+                .key(upload.checkpoint().key())
+                .uploadId(upload.checkpoint().uploadId())
+                .partNumber(partNumber)
+                .contentLength(length)
+                .checksumAlgorithm(checksumAlgorithm)
+                .overrideConfiguration(override -> override.addMetricPublisher(new ThrottleObserver(concurrency))
+                        .putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, upload.transferId))
+                .build();
+        var body = AsyncRequestBody.fromFile(FileRequestBodyConfiguration.builder()
+                .path(upload.file)
+                .position(offset)
+                .numBytesToRead(length)
+                .build());
+
+        return upload.client.uploadPart(request, body)
+                .thenCombine(localChecksum(upload.file, offset, length), (response, checksum) -> {
+                    var reported = checksumAlgorithm == null ? null : S3Checksums.of(checksumAlgorithm, response);
+                    if (reported != null && !reported.equals(checksum)) {
+                        throw new EdcException("Checksum mismatch for part %d of %s: computed %s, S3 reported %s"
+                                .formatted(partNumber, upload.checkpoint().key(), checksum, reported));
+                    }
+                    return new MultipartUploadCheckpoint.Part(partNumber, response.eTag(), checksum);
+                });
+    }
+
+    private CompletableFuture<String> localChecksum(Path file, long offset, long length) {
+        if (checksumAlgorithm == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return S3Checksums.compute(checksumAlgorithm, file, offset, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }, checksumExecutor);
+    }
+
+    private CompletableFuture<CompleteMultipartUploadResponse> complete(Upload upload) {
+        var checkpoint = upload.checkpoint();
+        if (!isSameFile(upload.file, checkpoint)) {
+            return abort(upload.transferId, upload.client, checkpoint)
+                    .thenApply(v -> {
+                        throw new EdcException("%s was modified while it was uploaded to %s".formatted(upload.file, checkpoint.key()));
+                    });
+        }
+        var parts = checkpoint.completedParts().stream()
+                .map(part -> {
+                    var builder = CompletedPart.builder().partNumber(part.partNumber()).eTag(part.eTag());
+                    return checksumAlgorithm == null || part.checksum() == null ? builder.build() : S3Checksums.withChecksum(checksumAlgorithm, builder, part.checksum()).build();
+                })
+                .toList();
+        var request = CompleteMultipartUploadRequest.builder()
+                .bucket(checkpoint.bucket())
+                .key(checkpoint.key())
+                .uploadId(checkpoint.uploadId())
+                .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                .overrideConfiguration(override -> override.putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, upload.transferId))
+                .build();
+
+        return upload.client.completeMultipartUpload(request)
+                .thenApply(response -> {
+                    checkpointStore.delete(upload.transferId);
+                    verifyComposite(checkpoint, response);
+                    return response;
+                });
+    }
+
+    private void verifyComposite(MultipartUploadCheckpoint checkpoint, CompleteMultipartUploadResponse response) {
+        var reported = checksumAlgorithm == null ? null : S3Checksums.of(checksumAlgorithm, response);
+        // full-object checksums carry no part count and cannot be derived from the part checksums
+        if (reported == null || !reported.contains("-") || checkpoint.completedParts().stream().anyMatch(part -> part.checksum() == null)) {
+            return;
+        }
+        var expected = S3Checksums.composite(checksumAlgorithm, checkpoint.completedParts().stream().map(MultipartUploadCheckpoint.Part::checksum).toList());
+        if (!expected.equals(reported)) {
+            throw new EdcException("Composite checksum mismatch for %s: computed %s, S3 reported %s".formatted(checkpoint.key(), expected, reported));
+        }
+    }
+
+    private boolean isSameFile(Path file, MultipartUploadCheckpoint checkpoint) {
+        try {
+            return checkpoint.isSameFile(Files.size(file), Files.getLastModifiedTime(file).toMillis());
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private void saveCheckpoint(String transferId, MultipartUploadCheckpoint checkpoint) {
+        var result = checkpointStore.save(transferId, checkpoint);
+        if (result.failed()) {
+            monitor.warning("Cannot save checkpoint of transfer %s, it won't be resumable: %s".formatted(transferId, result.getFailureDetail()));
+        }
+    }
+
+    private Throwable rootCause(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    private boolean isThrottled(Throwable throwable) {
+        return rootCause(throwable) instanceof S3Exception exception && exception.statusCode() == SLOW_DOWN;
+    }
+
+    /**
+     * Sends the pending parts of an upload while the {@link AimdConcurrencyController} has room for them. The result
+     * completes once all parts are uploaded or, after a part failed, once the parts in flight have ended.
+     */
+    private final class PartScheduler {
+        private final Upload upload;
+        private final Queue<Integer> pending;
+        private final AimdConcurrencyController concurrency;
+        private final AtomicInteger remaining;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicReference<Throwable> failure = new AtomicReference<>();
+        private final Map<Integer, Integer> throttledAttempts = new ConcurrentHashMap<>();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private PartScheduler(Upload upload, Queue<Integer> pending, AimdConcurrencyController concurrency) {
+            this.upload = upload;
+            this.pending = pending;
+            this.concurrency = concurrency;
+            this.remaining = new AtomicInteger(pending.size());
+        }
+
+        void dispatch() {
+            while (failure.get() == null && concurrency.tryAcquire()) {
+                var partNumber = pending.poll();
+                if (partNumber == null) {
+                    concurrency.release();
+                    return;
+                }
+                inFlight.incrementAndGet();
+                uploadPart(upload, partNumber, concurrency).whenComplete((part, throwable) -> ended(partNumber, part, throwable));
+            }
+        }
+
+        private void ended(int partNumber, MultipartUploadCheckpoint.Part part, Throwable throwable) {
+            concurrency.release();
+            var throttled = throwable != null && isThrottled(throwable);
+            if (throttled) {
+                // the ThrottleObserver of the request leaves the last attempt out, so that it is reported exactly once
+                concurrency.throttled();
+            }
+            if (throwable == null) {
+                upload.completed(part);
+                concurrency.completed(Math.min(upload.checkpoint().partSize(), upload.size - (partNumber - 1) * upload.checkpoint().partSize()));
+                if (remaining.decrementAndGet() == 0) {
+                    result.complete(null);
+                }
+            } else if (throttled && throttledAttempts.merge(partNumber, 1, Integer::sum) < MAX_THROTTLED_ATTEMPTS) {
+                var backoff = THROTTLE_BACKOFF.multipliedBy(throttledAttempts.get(partNumber));
+                CompletableFuture.runAsync(() -> {
+                    pending.add(partNumber);
+                    dispatch();
+                }, CompletableFuture.delayedExecutor(backoff.toNanos(), TimeUnit.NANOSECONDS));
+            } else if (failure.compareAndSet(null, rootCause(throwable))) {
+                pending.clear();
+            }
+
+            if (inFlight.decrementAndGet() == 0 && failure.get() != null) {
+                result.completeExceptionally(failure.get());
+            } else {
+                dispatch();
+            }
+        }
+    }
+
+    /**
+     * Reports every attempt of a request that S3 answered with {@code 503 SlowDown} and the SDK retried. The last
+     * attempt is left out: if it was throttled, the request failed with {@code SlowDown} and the {@link PartScheduler}
+     * reports it, which also covers clients that publish no metrics.
+     */
+    private record ThrottleObserver(AimdConcurrencyController concurrency) implements MetricPublisher {
+        private static final String ATTEMPT = "ApiCallAttempt";
+
+        @Override
+        public void publish(MetricCollection metrics) {
+            var attempts = metrics.children().stream().filter(child -> ATTEMPT.equals(child.name())).toList();
+            attempts.stream()
+                    .limit(Math.max(0, attempts.size() - 1))
+                    .filter(ThrottleObserver::throttled)
+                    .forEach(attempt -> concurrency.throttled());
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private static boolean throttled(MetricCollection metrics) {
+            return metrics.metricValues(HttpMetric.HTTP_STATUS_CODE).contains(SLOW_DOWN) || metrics.children().stream().anyMatch(ThrottleObserver::throttled);
+        }
+    }
+
+    private final class Upload {
+        private final String transferId;
+        private final S3AsyncClient client;
+        private final Path file;
+        private final long size;
+        private MultipartUploadCheckpoint checkpoint;
+
+        private Upload(String transferId, S3AsyncClient client, Path file, long size, MultipartUploadCheckpoint checkpoint) {
+            this.transferId = transferId;
+            this.client = client;
+            this.file = file;
+            this.size = size;
+            this.checkpoint = checkpoint;
+        }
+
+        synchronized MultipartUploadCheckpoint checkpoint() {
+            return checkpoint;
+        }
+
+        synchronized void completed(MultipartUploadCheckpoint.Part part) {
+            checkpoint = checkpoint.withPart(part);
+            saveCheckpoint(transferId, checkpoint);
+        }
+    }
+}
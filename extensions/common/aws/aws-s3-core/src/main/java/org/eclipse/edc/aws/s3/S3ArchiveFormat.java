@@ -0,0 +1,69 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+
+/**
+ * Archive formats the {@link S3BatchWriter} can pack small objects into, selected by the
+ * {@link org.eclipse.edc.aws.s3.spi.S3BucketSchema#ARCHIVE_FORMAT} property of the destination.
+ */
+public enum S3ArchiveFormat {
+
+    TAR {
+        @Override
+        ArchiveWriter open(OutputStream outputStream) {
+            return new TarArchiveWriter(outputStream);
+        }
+    },
+
+    ZIP {
+        @Override
+        ArchiveWriter open(OutputStream outputStream) {
+            return new ZipArchiveWriter(outputStream);
+        }
+    };
+
+    /**
+     * Parses a format from its case-insensitive name.
+     *
+     * @param value the name of the format
+     * @return the format
+     * @throws EdcException if the value does not name a known format
+     */
+    public static S3ArchiveFormat fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new EdcException("Unknown archive format '%s', expected one of %s".formatted(value, Arrays.toString(values()))));
+    }
+
+    abstract ArchiveWriter open(OutputStream outputStream);
+
+    /**
+     * Writes entries into an archive. Closing the writer finishes the archive and closes the underlying stream.
+     */
+    interface ArchiveWriter extends AutoCloseable {
+
+        void add(String name, byte[] content) throws IOException;
+
+        @Override
+        void close() throws IOException;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.eclipse.edc.spi.EdcException;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
+
+import java.net.URI;
+
+/**
+ * Builds {@link S3AsyncClient}s for the configured {@link S3TransferBackend}.
+ * <p>
+ * Clients of the {@link S3TransferBackend#STANDARD} backend report their requests to the given
+ * {@link S3TransferMetrics}. The CRT based client does not run SDK execution interceptors, so its transfers are not
+ * measured. The native {@code software.amazon.awssdk.crt:aws-crt} library the CRT backend needs is an optional
+ * dependency that runtimes selecting it have to add.
+ */
+public class S3AsyncClientFactory {
+
+    private final S3TransferConfiguration configuration;
+    private final S3TransferMetrics metrics;
+
+    public S3AsyncClientFactory(S3TransferConfiguration configuration) {
+        this(configuration, S3TransferMetrics.NOOP);
+    }
+
+    public S3AsyncClientFactory(S3TransferConfiguration configuration, S3TransferMetrics metrics) {
+        if (configuration.backend() == S3TransferBackend.CRT && !isCrtAvailable()) {
+            throw new EdcException("The 'crt' S3 transfer backend requires software.amazon.awssdk.crt:aws-crt on the runtime classpath");
+        }
+        this.configuration = configuration;
+        this.metrics = metrics;
+    }
+
+    /**
+     * Creates a new client. The caller owns the client and is responsible for closing it.
+     *
+     * @param region              the region of the bucket
+     * @param endpointOverride    optional endpoint, e.g. of an S3 compatible storage. Enables path-style access
+     * @param credentialsProvider the credentials to sign requests with
+     * @return the client
+     */
+    public S3AsyncClient create(String region, @Nullable String endpointOverride, AwsCredentialsProvider credentialsProvider) {
+        var endpoint = endpointOverride == null ? null : URI.create(endpointOverride);
+        return switch (configuration.backend()) {
+            case CRT -> createCrtClient(Region.of(region), endpoint, credentialsProvider);
+            case STANDARD -> createStandardClient(Region.of(region), endpoint, credentialsProvider);
+        };
+    }
+
+    public S3TransferConfiguration configuration() {
+        return configuration;
+    }
+
+    private static boolean isCrtAvailable() {
+        try {
+            Class.forName("software.amazon.awssdk.crt.CRT", false, S3AsyncClientFactory.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
+
+    private S3AsyncClient createCrtClient(Region region, @Nullable URI endpoint, AwsCredentialsProvider credentialsProvider) {
+        var builder = S3AsyncClient.crtBuilder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .targetThroughputInGbps(configuration.crtTargetThroughputGbps())
+                .minimumPartSizeInBytes(configuration.minimumPartSizeBytes())
+                .maxConcurrency(configuration.maxConcurrency())
+                .initialReadBufferSizeInBytes(configuration.readBufferSizeBytes());
+
+        if (configuration.crtMaxNativeMemoryBytes() > 0) {
+            builder.maxNativeMemoryLimitInBytes(configuration.crtMaxNativeMemoryBytes());
+        }
+        if (endpoint != null) {
+            builder.endpointOverride(endpoint).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    private S3AsyncClient createStandardClient(Region region, @Nullable URI endpoint, AwsCredentialsProvider credentialsProvider) {
+        var builder = S3AsyncClient.builder()
+                .region(region)
+                .credentialsProvider(credentialsProvider)
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .minimumPartSizeInBytes(configuration.minimumPartSizeBytes())
+                        .thresholdInBytes(configuration.minimumPartSizeBytes())
+                        .build());
+
+        if (endpoint != null) {
+            builder.endpointOverride(endpoint).forcePathStyle(true);
+        }
+        if (metrics != S3TransferMetrics.NOOP) {
+            builder.overrideConfiguration(override -> override.addExecutionInterceptor(new S3TransferMetricsInterceptor(metrics)));
+        }
+        return builder.build();
+    }
+}
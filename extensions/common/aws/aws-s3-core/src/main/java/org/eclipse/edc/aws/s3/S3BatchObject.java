@@ -0,0 +1,24 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+/**
+ * A small object written by the {@link S3BatchWriter}.
+ *
+ * @param name    the object name, relative to the folder of the destination
+ * @param content the object content. Must not be modified once handed to the writer
+ */
+public record S3BatchObject(String name, byte[] content) {
+}
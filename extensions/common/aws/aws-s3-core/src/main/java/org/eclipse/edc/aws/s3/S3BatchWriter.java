@@ -0,0 +1,172 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.result.Result;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ARCHIVE_FORMAT;
+
+/**
+ * Writes many small objects to an {@code AmazonS3} destination.
+ * <p>
+ * Without an {@link org.eclipse.edc.aws.s3.spi.S3BucketSchema#ARCHIVE_FORMAT} every object is uploaded as its own S3
+ * object in the folder of the destination. Uploads are issued concurrently, with at most {@code maxInFlight} requests
+ * outstanding, so the per-request latency overlaps instead of adding up. Once the limit is reached the caller blocks
+ * until a request completes, which keeps the memory held by pending objects bounded.
+ * <p>
+ * With an archive format all objects are packed into a single tar or zip archive that is streamed to the
+ * {@link org.eclipse.edc.aws.s3.spi.S3BucketSchema#OBJECT_NAME} of the destination as it is built. If an object
+ * cannot be added, the upload is cancelled before the archive is finished, so no truncated archive is stored.
+ * <p>
+ * Objects and archives are uploaded like {@link S3TransferService#write(DataAddress, AsyncRequestBody)} uploads, so
+ * they carry the additional checksum configured for the service and are compressed as the {@code compression}
+ * property of the destination states.
+ */
+public class S3BatchWriter {
+
+    private static final int ARCHIVE_BUFFER_SIZE = 256 * 1024;
+
+    private final S3TransferService transferService;
+    private final int maxInFlight;
+
+    public S3BatchWriter(S3TransferService transferService, int maxInFlight) {
+        this.transferService = transferService;
+        this.maxInFlight = maxInFlight;
+    }
+
+    /**
+     * Writes all objects to the destination and blocks until every upload has completed.
+     *
+     * @param destination the destination DataAddress
+     * @param objects     the objects to write
+     * @return success, or a failure listing every object that could not be written
+     */
+    public Result<Void> write(DataAddress destination, Iterator<S3BatchObject> objects) {
+        return write(null, destination, objects);
+    }
+
+    /**
+     * Writes all objects to the destination like {@link #write(DataAddress, Iterator)}, reporting the uploads as part
+     * of the given transfer.
+     *
+     * @param transferId  the id of the transfer, or null
+     * @param destination the destination DataAddress
+     * @param objects     the objects to write
+     * @return success, or a failure listing every object that could not be written
+     */
+    public Result<Void> write(@Nullable String transferId, DataAddress destination, Iterator<S3BatchObject> objects) {
+        S3TransferService.Compression compression;
+        try {
+            compression = S3TransferService.compression(destination);
+        } catch (IllegalArgumentException e) {
+            return Result.failure("Invalid compression of destination: " + e.getMessage());
+        }
+
+        var archiveFormat = destination.getStringProperty(ARCHIVE_FORMAT);
+        if (archiveFormat == null) {
+            return writeObjects(transferId, destination, compression, objects);
+        }
+
+        S3ArchiveFormat format;
+        try {
+            format = S3ArchiveFormat.fromValue(archiveFormat);
+        } catch (EdcException e) {
+            return Result.failure(e.getMessage());
+        }
+        return writeArchive(transferId, destination, compression, objects, format);
+    }
+
+    private Result<Void> writeObjects(@Nullable String transferId, DataAddress destination, S3TransferService.Compression compression, Iterator<S3BatchObject> objects) {
+        var client = transferService.client(destination);
+        var permits = new Semaphore(maxInFlight);
+        var failures = new ConcurrentLinkedQueue<String>();
+
+        while (objects.hasNext()) {
+            var object = objects.next();
+            var location = S3ObjectLocation.from(destination, object.name());
+
+            permits.acquireUninterruptibly();
+            try {
+                transferService.write(transferId, client, location, compression, AsyncRequestBody.fromBytesUnsafe(object.content()))
+                        .whenComplete((response, throwable) -> {
+                            if (throwable != null) {
+                                failures.add("Failed to write object %s: %s".formatted(location.key(), rootCause(throwable).getMessage()));
+                            }
+                            permits.release();
+                        });
+            } catch (RuntimeException e) {
+                failures.add("Failed to write object %s: %s".formatted(location.key(), e.getMessage()));
+                permits.release();
+            }
+        }
+
+        permits.acquireUninterruptibly(maxInFlight);
+        permits.release(maxInFlight);
+
+        return failures.isEmpty() ? Result.success() : Result.failure(List.copyOf(failures));
+    }
+
+    private Result<Void> writeArchive(@Nullable String transferId, DataAddress destination, S3TransferService.Compression compression, Iterator<S3BatchObject> objects, S3ArchiveFormat format) {
+        var location = S3ObjectLocation.from(destination);
+        var body = AsyncRequestBody.forBlockingOutputStream(null);
+        CompletableFuture<PutObjectResponse> upload;
+        try {
+            upload = transferService.write(transferId, transferService.client(destination), location, compression, body);
+        } catch (RuntimeException e) {
+            return Result.failure("Failed to write archive %s: %s".formatted(location.key(), e.getMessage()));
+        }
+
+        // the archive is only closed on success: closing it writes the end of the archive and completes the body, so an
+        // archive closed after a failed entry would be uploaded as a truncated but well-formed object
+        var output = body.outputStream();
+        var archive = format.open(new BufferedOutputStream(output, ARCHIVE_BUFFER_SIZE));
+        try {
+            while (objects.hasNext()) {
+                var object = objects.next();
+                archive.add(object.name(), object.content());
+            }
+            archive.close();
+        } catch (IOException | RuntimeException e) {
+            output.cancel();
+            upload.cancel(true);
+            return Result.failure("Failed to write archive %s: %s".formatted(location.key(), e.getMessage()));
+        }
+
+        try {
+            upload.join();
+            return Result.success();
+        } catch (CompletionException e) {
+            return Result.failure("Failed to write archive %s: %s".formatted(location.key(), rootCause(e).getMessage()));
+        }
+    }
+
+    private Throwable rootCause(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+}
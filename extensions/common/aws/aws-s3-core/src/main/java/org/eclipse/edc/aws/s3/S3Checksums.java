@@ -0,0 +1,187 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.List;
+import java.util.zip.CRC32C;
+
+/**
+ * Computes S3 additional checksums in the base64 representation S3 uses in its headers.
+ * <p>
+ * CRC32C is computed with {@link CRC32C}, which the JVM implements with hardware instructions, so hashing keeps up
+ * with the network. Composite checksums of multipart uploads are the checksum of the concatenated binary part
+ * checksums, followed by a dash and the number of parts.
+ */
+public final class S3Checksums {
+
+    private static final int BUFFER_SIZE = 1024 * 1024;
+
+    private S3Checksums() {
+    }
+
+    /**
+     * Computes the checksum of a region of a file, reading it through a direct buffer.
+     *
+     * @param algorithm the checksum algorithm, either CRC32C or SHA-256
+     * @param file      the file
+     * @param offset    the position of the first byte of the region
+     * @param length    the length of the region
+     * @return the base64 encoded checksum
+     * @throws IOException if the file cannot be read
+     */
+    public static String compute(ChecksumAlgorithm algorithm, Path file, long offset, long length) throws IOException {
+        var hasher = hasher(algorithm);
+        try (var channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            var buffer = ByteBuffer.allocateDirect((int) Math.min(BUFFER_SIZE, Math.max(1, length)));
+            var position = offset;
+            var end = offset + length;
+            while (position < end) {
+                buffer.clear().limit((int) Math.min(buffer.capacity(), end - position));
+                var read = channel.read(buffer, position);
+                if (read < 0) {
+                    throw new EOFException("Unexpected end of %s at position %d".formatted(file, position));
+                }
+                position += read;
+                hasher.update(buffer.flip());
+            }
+        }
+        return Base64.getEncoder().encodeToString(hasher.digest());
+    }
+
+    /**
+     * Computes the checksum of the remaining bytes of a buffer without changing its position.
+     *
+     * @param algorithm the checksum algorithm, either CRC32C or SHA-256
+     * @param buffer    the content
+     * @return the base64 encoded checksum
+     */
+    public static String compute(ChecksumAlgorithm algorithm, ByteBuffer buffer) {
+        var hasher = hasher(algorithm);
+        hasher.update(buffer.duplicate());
+        return Base64.getEncoder().encodeToString(hasher.digest());
+    }
+
+    /**
+     * Computes the composite checksum S3 reports for a multipart upload from the checksums of its parts.
+     *
+     * @param algorithm     the checksum algorithm, either CRC32C or SHA-256
+     * @param partChecksums the base64 encoded part checksums, ordered by part number
+     * @return the composite checksum, e.g. {@code "AAAAAA==-3"}
+     */
+    public static String composite(ChecksumAlgorithm algorithm, List<String> partChecksums) {
+        var hasher = hasher(algorithm);
+        partChecksums.forEach(checksum -> hasher.update(ByteBuffer.wrap(Base64.getDecoder().decode(checksum))));
+        return Base64.getEncoder().encodeToString(hasher.digest()) + "-" + partChecksums.size();
+    }
+
+    /**
+     * Returns the checksum S3 reported for an uploaded part.
+     *
+     * @param algorithm the checksum algorithm
+     * @param response  the response of the part upload
+     * @return the checksum, or null if S3 did not report one
+     */
+    public static @Nullable String of(ChecksumAlgorithm algorithm, UploadPartResponse response) {
+        return algorithm == ChecksumAlgorithm.CRC32_C ? response.checksumCRC32C() : response.checksumSHA256();
+    }
+
+    /**
+     * Returns the checksum S3 reported for a completed multipart upload.
+     *
+     * @param algorithm the checksum algorithm
+     * @param response  the response of the completion
+     * @return the checksum, or null if S3 did not report one
+     */
+    public static @Nullable String of(ChecksumAlgorithm algorithm, CompleteMultipartUploadResponse response) {
+        return algorithm == ChecksumAlgorithm.CRC32_C ? response.checksumCRC32C() : response.checksumSHA256();
+    }
+
+    /**
+     * Sets a part checksum on a completed part.
+     *
+     * @param algorithm the checksum algorithm
+     * @param part      the completed part to set the checksum on
+     * @param checksum  the base64 encoded checksum
+     * @return the builder
+     */
+    public static CompletedPart.Builder withChecksum(ChecksumAlgorithm algorithm, CompletedPart.Builder part, String checksum) {
+        return algorithm == ChecksumAlgorithm.CRC32_C ? part.checksumCRC32C(checksum) : part.checksumSHA256(checksum);
+    }
+
+    private static Hasher hasher(ChecksumAlgorithm algorithm) {
+        return switch (algorithm) {
+            case CRC32_C -> new Crc32cHasher();
+            case SHA256 -> new Sha256Hasher();
+            default -> throw new IllegalArgumentException("Unsupported checksum algorithm " + algorithm);
+        };
+    }
+
+    private interface Hasher {
+        void update(ByteBuffer buffer);
+
+        byte[] digest();
+    }
+
+    private static final class Crc32cHasher implements Hasher {
+        private final CRC32C crc = new CRC32C();
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            crc.update(buffer);
+        }
+
+        @Override
+        public byte[] digest() {
+            return ByteBuffer.allocate(4).putInt((int) crc.getValue()).array();
+        }
+    }
+
+    private static final class Sha256Hasher implements Hasher {
+        private final MessageDigest digest;
+
+        private Sha256Hasher() {
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void update(ByteBuffer buffer) {
+            digest.update(buffer);
+        }
+
+        @Override
+        public byte[] digest() {
+            return digest.digest();
+        }
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import com.github.luben.zstd.Zstd;
+import com.github.luben.zstd.ZstdInputStream;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Arrays;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The compression formats objects can be stored in, identified by their {@code Content-Encoding}.
+ * <p>
+ * Content is compressed in chunks, each of which becomes a self-contained gzip member or zstd frame. Both formats
+ * define a concatenation of members or frames to decompress to the concatenation of their contents, so chunks can be
+ * compressed in parallel and the object is read back with a plain decompressing stream.
+ */
+public enum S3CompressionCodec {
+
+    GZIP("gzip", 6, 0, 9) {
+        @Override
+        byte[] compress(byte[] input, int length, int level) {
+            var output = new ByteArrayOutputStream(length / 2 + 64);
+            try (var gzip = new LevelGzipOutputStream(output, level)) {
+                gzip.write(input, 0, length);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return output.toByteArray();
+        }
+
+        @Override
+        InputStream decoder(InputStream input) throws IOException {
+            return new GZIPInputStream(input, 64 * 1024);
+        }
+    },
+
+    ZSTD("zstd", 3, 1, 22) {
+        @Override
+        byte[] compress(byte[] input, int length, int level) {
+            return Zstd.compress(length == input.length ? input : Arrays.copyOf(input, length), level);
+        }
+
+        @Override
+        InputStream decoder(InputStream input) throws IOException {
+            return new ZstdInputStream(input);
+        }
+    };
+
+    private final String contentEncoding;
+    private final int defaultLevel;
+    private final int minLevel;
+    private final int maxLevel;
+
+    S3CompressionCodec(String contentEncoding, int defaultLevel, int minLevel, int maxLevel) {
+        this.contentEncoding = contentEncoding;
+        this.defaultLevel = defaultLevel;
+        this.minLevel = minLevel;
+        this.maxLevel = maxLevel;
+    }
+
+    /**
+     * Returns the codec of a {@code compression} DataAddress property.
+     *
+     * @param value the property value, {@code gzip}, {@code zstd} or {@code none}
+     * @return the codec, or null if the value is null or {@code none}
+     * @throws IllegalArgumentException if the value names an unknown codec
+     */
+    public static @Nullable S3CompressionCodec fromValue(@Nullable String value) {
+        if (value == null || value.equalsIgnoreCase("none")) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(codec -> codec.contentEncoding.equalsIgnoreCase(value.trim()))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown compression '%s', expected 'gzip', 'zstd' or 'none'".formatted(value)));
+    }
+
+    /**
+     * Returns the codec of a {@code Content-Encoding} header.
+     *
+     * @param contentEncoding the header value
+     * @return the codec, or null if the content is not encoded with a supported codec
+     */
+    public static @Nullable S3CompressionCodec fromContentEncoding(@Nullable String contentEncoding) {
+        if (contentEncoding == null) {
+            return null;
+        }
+        return Arrays.stream(values())
+                .filter(codec -> codec.contentEncoding.equalsIgnoreCase(contentEncoding.trim()))
+                .findFirst()
+                .orElse(null);
+    }
+
+    public String contentEncoding() {
+        return contentEncoding;
+    }
+
+    public int defaultLevel() {
+        return defaultLevel;
+    }
+
+    /**
+     * Returns the compression level of a {@code compressionLevel} DataAddress property.
+     *
+     * @param value the property value
+     * @return the level, or the default level of the codec if the value is null
+     * @throws IllegalArgumentException if the value is not an integer within the levels of the codec
+     */
+    public int level(@Nullable String value) {
+        if (value == null) {
+            return defaultLevel;
+        }
+        try {
+            var level = Integer.parseInt(value.trim());
+            if (level >= minLevel && level <= maxLevel) {
+                return level;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        throw new IllegalArgumentException("Invalid %s compression level '%s', expected an integer from %d to %d".formatted(contentEncoding, value, minLevel, maxLevel));
+    }
+
+    /**
+     * Returns a stream that decompresses the given stream. The stream is only read once the returned stream is read,
+     * so it is safe to call this on a thread that must not block.
+     *
+     * @param input the compressed content, a concatenation of members or frames
+     * @return the decompressed content
+     */
+    public InputStream decompress(InputStream input) {
+        return new LazyDecoder(this, input);
+    }
+
+    /**
+     * Compresses a chunk into one self-contained member or frame.
+     *
+     * @param input  the buffer holding the chunk
+     * @param length the number of bytes of the chunk, starting at the beginning of the buffer
+     * @param level  the compression level of the codec
+     * @return the compressed chunk
+     */
+    abstract byte[] compress(byte[] input, int length, int level);
+
+    abstract InputStream decoder(InputStream input) throws IOException;
+
+    private static final class LevelGzipOutputStream extends GZIPOutputStream {
+        private LevelGzipOutputStream(ByteArrayOutputStream output, int level) throws IOException {
+            super(output, 64 * 1024);
+            def.setLevel(level);
+        }
+    }
+
+    private static final class LazyDecoder extends InputStream {
+        private final S3CompressionCodec codec;
+        private final InputStream input;
+        private InputStream decoder;
+
+        private LazyDecoder(S3CompressionCodec codec, InputStream input) {
+            this.codec = codec;
+            this.input = input;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return decoder().read();
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            return decoder().read(buffer, offset, length);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (decoder != null) {
+                decoder.close();
+            } else {
+                input.close();
+            }
+        }
+
+        private InputStream decoder() throws IOException {
+            if (decoder == null) {
+                decoder = codec.decoder(input);
+            }
+            return decoder;
+        }
+    }
+}
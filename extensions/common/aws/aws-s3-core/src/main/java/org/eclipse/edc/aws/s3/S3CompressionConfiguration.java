@@ -0,0 +1,39 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Configuration of the compression of uploads to destinations that set the {@code compression} property.
+ *
+ * @param chunkSize         the number of uncompressed bytes compressed into one gzip member or zstd frame
+ * @param maxChunksInFlight the maximum number of chunks per upload that are compressed or wait to be sent
+ * @param executor          the executor chunks are compressed on
+ */
+public record S3CompressionConfiguration(int chunkSize, int maxChunksInFlight, Executor executor) {
+
+    public static final int DEFAULT_CHUNK_SIZE = 4 * 1024 * 1024;
+
+    /**
+     * Returns a configuration compressing on the common pool, with two chunks in flight per available processor.
+     *
+     * @return the default configuration
+     */
+    public static S3CompressionConfiguration defaults() {
+        return new S3CompressionConfiguration(DEFAULT_CHUNK_SIZE, 2 * Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Provides default implementations of the services used by the {@link S3CoreExtension}, which can be replaced by
+ * other extensions.
+ */
+@Extension(value = S3CoreDefaultServicesExtension.NAME)
+public class S3CoreDefaultServicesExtension implements ServiceExtension {
+    public static final String NAME = "AWS S3 Core Default Services";
+
+    @Setting(key = "edc.aws.s3.transfer.checkpoint.directory",
+            description = "The directory in which the checkpoints of resumable multipart uploads are stored. Must survive restarts for uploads to be resumed after one. Defaults to .edc/s3-checkpoints in the user home",
+            required = false)
+    private String checkpointDirectory;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider(isDefault = true)
+    public MultipartUploadCheckpointStore multipartUploadCheckpointStore(ServiceExtensionContext context) {
+        var directory = Optional.ofNullable(checkpointDirectory)
+                .map(Path::of)
+                .orElseGet(() -> Path.of(System.getProperty("user.home"), ".edc", "s3-checkpoints"))
+                .toAbsolutePath();
+        if (directory.startsWith(Path.of(System.getProperty("java.io.tmpdir")).toAbsolutePath())) {
+            context.getMonitor().warning("S3 multipart upload checkpoints are stored in the temporary directory %s, uploads cannot be resumed once it is cleared".formatted(directory));
+        }
+        return new FileSystemMultipartUploadCheckpointStore(directory);
+    }
+
+    @Provider(isDefault = true)
+    public S3TransferMetrics s3TransferMetrics() {
+        return S3TransferMetrics.NOOP;
+    }
+}
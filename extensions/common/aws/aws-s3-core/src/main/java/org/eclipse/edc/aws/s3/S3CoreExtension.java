@@ -0,0 +1,252 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.AssumeRoleCredentialsCache;
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.aws.s3.spi.S3BucketProbe;
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.eclipse.edc.aws.s3.spi.SecretAliasCredentialsCache;
+import org.eclipse.edc.aws.spi.SecretChangeObservable;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.sts.StsClient;
+
+import java.net.http.HttpClient;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.eclipse.edc.aws.s3.S3CompressionConfiguration.DEFAULT_CHUNK_SIZE;
+import static org.eclipse.edc.aws.s3.S3TransferConfiguration.DEFAULT_CRT_TARGET_THROUGHPUT_GBPS;
+import static org.eclipse.edc.aws.s3.S3TransferConfiguration.DEFAULT_MAX_CONCURRENCY;
+import static org.eclipse.edc.aws.s3.S3TransferConfiguration.DEFAULT_MINIMUM_PART_SIZE_BYTES;
+import static org.eclipse.edc.aws.s3.S3TransferConfiguration.DEFAULT_READ_BUFFER_SIZE_BYTES;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+
+/**
+ * This extension provides the {@link S3TransferService} that moves data from and to {@code AmazonS3} DataAddresses and
+ * the {@link S3HttpStreamer}, {@link S3BatchWriter}, {@link ResumableMultipartUploader} and {@link S3BucketProbe} built
+ * on top of it.
+ * The S3 client implementation is selected by the "edc.aws.s3.transfer.backend" setting.
+ */
+@Extension(value = S3CoreExtension.NAME)
+public class S3CoreExtension implements ServiceExtension {
+    public static final String NAME = "AWS S3 Core";
+    public static final int DEFAULT_BATCH_MAX_IN_FLIGHT = 256;
+    public static final int DEFAULT_MULTIPART_MAX_CONCURRENCY = 8;
+
+    @Setting(key = "edc.aws.s3.transfer.backend",
+            description = "The S3 client implementation used for transfers, either 'standard' or 'crt'",
+            defaultValue = "standard")
+    private String backend;
+
+    @Setting(key = "edc.aws.s3.transfer.part-size",
+            description = "The part size in bytes used for multipart uploads and ranged downloads",
+            defaultValue = DEFAULT_MINIMUM_PART_SIZE_BYTES + "")
+    private long partSize;
+
+    @Setting(key = "edc.aws.s3.transfer.max-concurrency",
+            description = "The maximum number of concurrent requests per S3 client. Only honoured by the 'crt' backend",
+            defaultValue = DEFAULT_MAX_CONCURRENCY + "")
+    private int maxConcurrency;
+
+    @Setting(key = "edc.aws.s3.transfer.read-buffer-size",
+            description = "The amount of downloaded data in bytes buffered per transfer ahead of the consumer. Only honoured by the 'crt' backend",
+            defaultValue = DEFAULT_READ_BUFFER_SIZE_BYTES + "")
+    private long readBufferSize;
+
+    @Setting(key = "edc.aws.s3.transfer.crt.target-throughput",
+            description = "The throughput in Gbps the 'crt' backend tries to reach",
+            defaultValue = DEFAULT_CRT_TARGET_THROUGHPUT_GBPS + "")
+    private double crtTargetThroughput;
+
+    @Setting(key = "edc.aws.s3.transfer.crt.max-native-memory",
+            description = "The upper bound in bytes of native memory each 'crt' client may use for buffers, 0 for the SDK default. One client exists per region and endpoint",
+            defaultValue = "0")
+    private long crtMaxNativeMemory;
+
+    @Setting(key = "edc.aws.s3.transfer.batch.max-in-flight",
+            description = "The maximum number of concurrent uploads when writing many small objects to the same destination",
+            defaultValue = DEFAULT_BATCH_MAX_IN_FLIGHT + "")
+    private int batchMaxInFlight;
+
+    @Setting(key = "edc.aws.sts.region",
+            description = "The region of the STS endpoint used to assume the roles given by the 'roleName' DataAddress property",
+            defaultValue = "aws-global")
+    private String stsRegion;
+
+    @Setting(key = "edc.aws.s3.transfer.multipart.max-concurrency",
+            description = "The maximum number of parts uploaded concurrently by a resumable multipart upload",
+            defaultValue = DEFAULT_MULTIPART_MAX_CONCURRENCY + "")
+    private int multipartMaxConcurrency;
+
+    @Setting(key = "edc.aws.s3.transfer.multipart.auto-tune",
+            description = "Whether resumable multipart uploads derive the part size from the object size and adapt the number of parts in flight to throughput and throttling",
+            defaultValue = "true")
+    private boolean multipartAutoTune;
+
+    @Setting(key = "edc.aws.s3.transfer.checksum-algorithm",
+            description = "The additional checksum uploads are protected with and downloads are validated against, either 'crc32c', 'sha256' or 'none'",
+            defaultValue = "crc32c")
+    private String checksumAlgorithm;
+
+    @Setting(key = "edc.aws.s3.transfer.compression.chunk-size",
+            description = "The number of uncompressed bytes compressed into one gzip member or zstd frame when uploading to destinations with the 'compression' property",
+            defaultValue = DEFAULT_CHUNK_SIZE + "")
+    private int compressionChunkSize;
+
+    @Setting(key = "edc.aws.s3.transfer.compression.parallelism",
+            description = "The number of threads compressing uploads, 0 to use the common fork-join pool",
+            defaultValue = "0")
+    private int compressionParallelism;
+
+    @Setting(key = "edc.aws.s3.credentials.alias.max-age",
+            description = "The time in seconds credentials resolved from a vault alias are reused before the secret is read again",
+            defaultValue = "3600")
+    private long aliasCredentialsMaxAge;
+
+    @Inject
+    private MultipartUploadCheckpointStore checkpointStore;
+
+    @Inject
+    private Vault vault;
+
+    @Inject
+    private TypeManager typeManager;
+
+    @Inject
+    private S3TransferMetrics metrics;
+
+    private S3TransferService transferService;
+    private AssumeRoleCredentialsCache roleCredentials;
+    private StsClient stsClient;
+    private ExecutorService checksumExecutor;
+    private ForkJoinPool compressionPool;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Provider
+    public S3TransferService s3TransferService(ServiceExtensionContext context) {
+        return transferService(context);
+    }
+
+    @Provider
+    public S3HttpStreamer s3HttpStreamer(ServiceExtensionContext context) {
+        return new S3HttpStreamer(transferService(context), HttpClient.newHttpClient());
+    }
+
+    @Provider
+    public S3BatchWriter s3BatchWriter(ServiceExtensionContext context) {
+        return new S3BatchWriter(transferService(context), batchMaxInFlight);
+    }
+
+    @Provider
+    public S3BucketProbe s3BucketProbe(ServiceExtensionContext context) {
+        var service = transferService(context);
+        return address -> service.client(address)
+                .headBucket(request -> request.bucket(address.getStringProperty(BUCKET_NAME)))
+                .thenApply(response -> null);
+    }
+
+    @Provider
+    public ResumableMultipartUploader resumableMultipartUploader(ServiceExtensionContext context) {
+        return new ResumableMultipartUploader(transferService(context), checkpointStore, context.getMonitor(), partSize, multipartMaxConcurrency,
+                multipartAutoTune, checksumAlgorithm(), checksumExecutor());
+    }
+
+    @Override
+    public void shutdown() {
+        if (transferService != null) {
+            transferService.close();
+            roleCredentials.close();
+        }
+        if (stsClient != null) {
+            stsClient.close();
+        }
+        if (checksumExecutor != null) {
+            checksumExecutor.shutdownNow();
+        }
+        if (compressionPool != null) {
+            compressionPool.shutdownNow();
+        }
+    }
+
+    private synchronized S3TransferService transferService(ServiceExtensionContext context) {
+        if (transferService == null) {
+            var configuration = new S3TransferConfiguration(S3TransferBackend.fromValue(backend), partSize, maxConcurrency,
+                    readBufferSize, crtTargetThroughput, crtMaxNativeMemory);
+            var checksum = checksumAlgorithm();
+            context.getMonitor().debug(() -> "Using the %s S3 transfer backend".formatted(configuration.backend()));
+            if (configuration.backend() == S3TransferBackend.CRT && metrics != S3TransferMetrics.NOOP) {
+                context.getMonitor().warning("S3 transfer metrics are not recorded by the 'crt' backend");
+            }
+
+            roleCredentials = new AssumeRoleCredentialsCache(this::stsClient);
+            var aliasCredentials = new SecretAliasCredentialsCache(vault, typeManager, Duration.ofSeconds(aliasCredentialsMaxAge), Clock.systemUTC());
+            if (vault instanceof SecretChangeObservable observable) {
+                observable.registerListener(aliasCredentials);
+            }
+            transferService = new S3TransferService(new S3AsyncClientFactory(configuration, metrics), roleCredentials, aliasCredentials, checksum, compression());
+        }
+        return transferService;
+    }
+
+    private synchronized StsClient stsClient() {
+        if (stsClient == null) {
+            stsClient = StsClient.builder().region(Region.of(stsRegion)).build();
+        }
+        return stsClient;
+    }
+
+    private S3CompressionConfiguration compression() {
+        if (compressionParallelism <= 0) {
+            return new S3CompressionConfiguration(compressionChunkSize, 2 * Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+        }
+        compressionPool = new ForkJoinPool(compressionParallelism);
+        return new S3CompressionConfiguration(compressionChunkSize, 2 * compressionParallelism, compressionPool);
+    }
+
+    private synchronized ExecutorService checksumExecutor() {
+        if (checksumExecutor == null) {
+            checksumExecutor = Executors.newFixedThreadPool(multipartMaxConcurrency);
+        }
+        return checksumExecutor;
+    }
+
+    private @Nullable ChecksumAlgorithm checksumAlgorithm() {
+        return switch (checksumAlgorithm.toLowerCase()) {
+            case "none" -> null;
+            case "crc32c" -> ChecksumAlgorithm.CRC32_C;
+            case "sha256" -> ChecksumAlgorithm.SHA256;
+            default -> throw new EdcException("Unknown S3 checksum algorithm '%s', expected 'crc32c', 'sha256' or 'none'".formatted(checksumAlgorithm));
+        };
+    }
+}
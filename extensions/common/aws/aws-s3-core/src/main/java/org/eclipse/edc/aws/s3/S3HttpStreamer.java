@@ -0,0 +1,95 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import org.reactivestreams.FlowAdapters;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Streams S3 objects to HTTP endpoints without buffering them on the heap.
+ * <p>
+ * The {@code ByteBuffer}s emitted by the asynchronous {@code GetObject} response are handed to the
+ * {@link HttpClient} as they are, so no intermediate {@code byte[]} copies are made. The HTTP client only requests the
+ * next buffer once it has written the previous one, and that demand is propagated to the S3 client, so the amount of
+ * data held in memory per transfer is bounded by the S3 client's read buffer rather than by the object size.
+ */
+public class S3HttpStreamer {
+
+    private final S3TransferService transferService;
+    private final HttpClient httpClient;
+
+    public S3HttpStreamer(S3TransferService transferService, HttpClient httpClient) {
+        this.transferService = transferService;
+        this.httpClient = httpClient;
+    }
+
+    /**
+     * Streams the object the source address points to as the body of the given request. The {@code Content-Type}
+     * and {@code Content-Encoding} headers are taken over from the S3 object unless the request sets them already, so
+     * compressed objects are sent as they are stored and decompressed by the receiver.
+     *
+     * @param source  the source DataAddress
+     * @param request the request to send, with URI and headers already set
+     * @param method  the HTTP method, e.g. {@code POST} or {@code PUT}
+     * @return the response of the HTTP endpoint, completed once the whole object was sent
+     */
+    public CompletableFuture<HttpResponse<Void>> stream(DataAddress source, HttpRequest.Builder request, String method) {
+        return stream(null, source, request, method);
+    }
+
+    /**
+     * Streams the object the source address points to like {@link #stream(DataAddress, HttpRequest.Builder, String)},
+     * reporting the download as part of the given transfer.
+     *
+     * @param transferId the id of the transfer, or null
+     * @param source     the source DataAddress
+     * @param request    the request to send, with URI and headers already set
+     * @param method     the HTTP method, e.g. {@code POST} or {@code PUT}
+     * @return the response of the HTTP endpoint, completed once the whole object was sent
+     */
+    public CompletableFuture<HttpResponse<Void>> stream(@Nullable String transferId, DataAddress source, HttpRequest.Builder request, String method) {
+        return transferService.read(transferId, source, AsyncResponseTransformer.toPublisher())
+                .thenCompose(publisher -> httpClient.sendAsync(toRequest(publisher, request, method), HttpResponse.BodyHandlers.discarding()));
+    }
+
+    private HttpRequest toRequest(ResponsePublisher<GetObjectResponse> publisher, HttpRequest.Builder request, String method) {
+        var response = publisher.response();
+        var flowPublisher = FlowAdapters.toFlowPublisher(publisher);
+
+        var contentLength = response.contentLength();
+        var body = contentLength != null && contentLength > 0
+                ? HttpRequest.BodyPublishers.fromPublisher(flowPublisher, contentLength)
+                : HttpRequest.BodyPublishers.fromPublisher(flowPublisher);
+
+        var httpRequest = request.copy().method(method, body);
+        var headers = request.build().headers();
+        if (response.contentType() != null && headers.firstValue("Content-Type").isEmpty()) {
+            httpRequest.header("Content-Type", response.contentType());
+        }
+        if (response.contentEncoding() != null && headers.firstValue("Content-Encoding").isEmpty()) {
+            httpRequest.header("Content-Encoding", response.contentEncoding());
+        }
+        return httpRequest.build();
+    }
+}
@@ -0,0 +1,59 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.FOLDER_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+
+/**
+ * Bucket and key of a single object addressed by an {@code AmazonS3} DataAddress.
+ *
+ * @param bucket the bucket name
+ * @param key    the object key, including the folder if one is set
+ */
+public record S3ObjectLocation(String bucket, String key) {
+
+    /**
+     * Resolves the object an {@code AmazonS3} DataAddress points to. The key is the {@code objectName}, prefixed by
+     * the {@code folderName} if present.
+     *
+     * @param address the DataAddress
+     * @return the object location
+     */
+    public static S3ObjectLocation from(DataAddress address) {
+        return from(address, address.getStringProperty(OBJECT_NAME));
+    }
+
+    /**
+     * Resolves an object with the given name in the bucket and folder of an {@code AmazonS3} DataAddress.
+     *
+     * @param address    the DataAddress
+     * @param objectName the name of the object
+     * @return the object location
+     */
+    public static S3ObjectLocation from(DataAddress address, String objectName) {
+        return new S3ObjectLocation(address.getStringProperty(BUCKET_NAME), key(address.getStringProperty(FOLDER_NAME), objectName));
+    }
+
+    private static String key(String folderName, String objectName) {
+        if (folderName == null || folderName.isBlank()) {
+            return objectName;
+        }
+        return folderName.endsWith("/") ? folderName + objectName : folderName + "/" + objectName;
+    }
+}
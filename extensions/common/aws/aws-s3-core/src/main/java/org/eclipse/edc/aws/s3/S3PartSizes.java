@@ -0,0 +1,58 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+/**
+ * Selects the part size of multipart transfers from the size of the object.
+ */
+public final class S3PartSizes {
+
+    /**
+     * The maximum number of parts of a multipart upload.
+     */
+    public static final int MAX_PARTS = 10_000;
+
+    /**
+     * The maximum size of a single part.
+     */
+    public static final long MAX_PART_SIZE = 5L * 1024 * 1024 * 1024;
+
+    private static final long ALIGNMENT = 1024 * 1024;
+
+    private S3PartSizes() {
+    }
+
+    /**
+     * Returns the smallest part size of at least {@code minimumPartSize} that splits the object into no more than
+     * {@link #MAX_PARTS} parts. Part sizes above the minimum are rounded up to whole MiB.
+     *
+     * @param objectSize      the size of the object in bytes
+     * @param minimumPartSize the smallest part size to use, e.g. the configured part size
+     * @return the part size
+     * @throws IllegalArgumentException if the object cannot be split into {@link #MAX_PARTS} parts of at most
+     *                                  {@link #MAX_PART_SIZE}
+     */
+    public static long forObjectSize(long objectSize, long minimumPartSize) {
+        var required = (objectSize + MAX_PARTS - 1) / MAX_PARTS;
+        if (required <= minimumPartSize) {
+            return minimumPartSize;
+        }
+        var aligned = (required + ALIGNMENT - 1) / ALIGNMENT * ALIGNMENT;
+        if (aligned > MAX_PART_SIZE) {
+            throw new IllegalArgumentException("An object of %d bytes exceeds the maximum size of a multipart upload".formatted(objectSize));
+        }
+        return aligned;
+    }
+}
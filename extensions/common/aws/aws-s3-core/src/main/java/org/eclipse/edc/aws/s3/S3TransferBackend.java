@@ -0,0 +1,50 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.EdcException;
+
+import java.util.Arrays;
+
+/**
+ * The S3 client implementation that drives transfers.
+ */
+public enum S3TransferBackend {
+
+    /**
+     * The Java-based {@code S3AsyncClient} with multipart support enabled.
+     */
+    STANDARD,
+
+    /**
+     * The AWS Common Runtime based {@code S3AsyncClient}, which splits requests automatically and uses native memory
+     * for its buffers.
+     */
+    CRT;
+
+    /**
+     * Parses a backend from its case-insensitive name.
+     *
+     * @param value the name of the backend
+     * @return the backend
+     * @throws EdcException if the value does not name a known backend
+     */
+    public static S3TransferBackend fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(it -> it.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new EdcException("Unknown S3 transfer backend '%s', expected one of %s".formatted(value, Arrays.toString(values()))));
+    }
+}
@@ -0,0 +1,48 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+/**
+ * Configuration of the S3 clients used for transfers.
+ *
+ * @param backend                  the client implementation
+ * @param minimumPartSizeBytes     the part size used for multipart uploads and ranged downloads
+ * @param maxConcurrency           the maximum number of concurrent requests per client, only honoured by the CRT backend
+ * @param readBufferSizeBytes      the amount of downloaded data buffered per transfer ahead of the consumer, only honoured by the CRT backend
+ * @param crtTargetThroughputGbps  the throughput the CRT client tries to reach
+ * @param crtMaxNativeMemoryBytes  the upper bound of native memory each CRT client may use for buffers, {@code 0} for the SDK default
+ */
+public record S3TransferConfiguration(S3TransferBackend backend,
+                                      long minimumPartSizeBytes,
+                                      int maxConcurrency,
+                                      long readBufferSizeBytes,
+                                      double crtTargetThroughputGbps,
+                                      long crtMaxNativeMemoryBytes) {
+
+    public static final long DEFAULT_MINIMUM_PART_SIZE_BYTES = 8L * 1024 * 1024;
+    public static final int DEFAULT_MAX_CONCURRENCY = 64;
+    public static final long DEFAULT_READ_BUFFER_SIZE_BYTES = 4 * DEFAULT_MINIMUM_PART_SIZE_BYTES;
+    public static final double DEFAULT_CRT_TARGET_THROUGHPUT_GBPS = 10.0;
+
+    /**
+     * Returns the configuration the standard backend runs with when nothing is configured.
+     *
+     * @return the default configuration
+     */
+    public static S3TransferConfiguration defaults() {
+        return new S3TransferConfiguration(S3TransferBackend.STANDARD, DEFAULT_MINIMUM_PART_SIZE_BYTES, DEFAULT_MAX_CONCURRENCY,
+                DEFAULT_READ_BUFFER_SIZE_BYTES, DEFAULT_CRT_TARGET_THROUGHPUT_GBPS, 0);
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.interceptor.Context;
+import software.amazon.awssdk.core.interceptor.ExecutionAttribute;
+import software.amazon.awssdk.core.interceptor.ExecutionAttributes;
+import software.amazon.awssdk.core.interceptor.ExecutionInterceptor;
+import software.amazon.awssdk.core.interceptor.SdkExecutionAttribute;
+import software.amazon.awssdk.http.SdkHttpRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Reports the requests of an S3 client to a {@link S3TransferMetrics}.
+ * <p>
+ * The interceptor keeps its per-request state in the {@link ExecutionAttributes} of the request, so it does not
+ * allocate beyond a few boxed values and never blocks. Attempts are counted in {@code beforeTransmission}, which the
+ * SDK calls once per attempt, and every attempt answered with {@code 503} is counted as throttled, as that is how S3
+ * signals {@code SlowDown}. Payload sizes are taken from the request headers and, for downloads, from the unmarshalled
+ * response.
+ * <p>
+ * The SDK completes a download once the response headers arrived when the body is streamed to the caller, e.g. with
+ * {@code AsyncResponseTransformer.toPublisher()}. The body of a successful download is therefore wrapped, and the
+ * request is recorded when the body has been read completely, or as failed when reading it fails or is cancelled.
+ * Its size only counts as in flight once the body is subscribed, so a body that is never read is not reported as in
+ * flight forever.
+ * <p>
+ * Requests that set the {@link #TRANSFER_ID} execution attribute are additionally reported per transfer through
+ * {@link S3TransferMetrics#transferRequestCompleted(String, long, Duration)}.
+ */
+public class S3TransferMetricsInterceptor implements ExecutionInterceptor {
+
+    /**
+     * Attributes a request to a transfer, set through
+     * {@code AwsRequestOverrideConfiguration.Builder#putExecutionAttribute(TRANSFER_ID, transferId)}.
+     */
+    public static final ExecutionAttribute<String> TRANSFER_ID = new ExecutionAttribute<>("EdcS3TransferId");
+
+    static final String GET_OBJECT_RANGE = "GetObjectRange";
+
+    private static final ExecutionAttribute<String> OPERATION = new ExecutionAttribute<>("EdcS3MetricsOperation");
+    private static final ExecutionAttribute<Long> START_NANOS = new ExecutionAttribute<>("EdcS3MetricsStartNanos");
+    private static final ExecutionAttribute<Integer> ATTEMPTS = new ExecutionAttribute<>("EdcS3MetricsAttempts");
+    private static final ExecutionAttribute<Long> REQUEST_BYTES = new ExecutionAttribute<>("EdcS3MetricsRequestBytes");
+    private static final ExecutionAttribute<Long> RESPONSE_BYTES = new ExecutionAttribute<>("EdcS3MetricsResponseBytes");
+    private static final ExecutionAttribute<Boolean> STREAMED = new ExecutionAttribute<>("EdcS3MetricsStreamed");
+    private static final ExecutionAttribute<AtomicBoolean> RESPONSE_IN_FLIGHT = new ExecutionAttribute<>("EdcS3MetricsResponseInFlight");
+    private static final ExecutionAttribute<AtomicBoolean> RECORDED = new ExecutionAttribute<>("EdcS3MetricsRecorded");
+    private static final int SERVICE_UNAVAILABLE = 503;
+
+    private final S3TransferMetrics metrics;
+
+    public S3TransferMetricsInterceptor(S3TransferMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void beforeExecution(Context.BeforeExecution context, ExecutionAttributes executionAttributes) {
+        var operation = executionAttributes.getAttribute(SdkExecutionAttribute.OPERATION_NAME);
+        if (context.request() instanceof GetObjectRequest request && (request.range() != null || request.partNumber() != null)) {
+            operation = GET_OBJECT_RANGE;
+        }
+        executionAttributes.putAttribute(OPERATION, operation);
+        executionAttributes.putAttribute(START_NANOS, System.nanoTime());
+        executionAttributes.putAttribute(ATTEMPTS, 0);
+        executionAttributes.putAttribute(RECORDED, new AtomicBoolean());
+        executionAttributes.putAttribute(RESPONSE_IN_FLIGHT, new AtomicBoolean());
+    }
+
+    @Override
+    public void beforeTransmission(Context.BeforeTransmission context, ExecutionAttributes executionAttributes) {
+        var attempts = executionAttributes.getAttribute(ATTEMPTS) + 1;
+        executionAttributes.putAttribute(ATTEMPTS, attempts);
+        if (attempts > 1) {
+            metrics.retried(executionAttributes.getAttribute(OPERATION));
+            return;
+        }
+
+        var bytes = payloadLength(context.httpRequest());
+        if (bytes > 0) {
+            executionAttributes.putAttribute(REQUEST_BYTES, bytes);
+            metrics.inFlightBytesChanged(bytes);
+        }
+    }
+
+    @Override
+    public void afterTransmission(Context.AfterTransmission context, ExecutionAttributes executionAttributes) {
+        if (context.httpResponse().statusCode() == SERVICE_UNAVAILABLE) {
+            metrics.throttled(executionAttributes.getAttribute(OPERATION));
+        }
+    }
+
+    @Override
+    public void afterUnmarshalling(Context.AfterUnmarshalling context, ExecutionAttributes executionAttributes) {
+        if (context.response() instanceof GetObjectResponse response && response.contentLength() != null && response.contentLength() > 0
+                && executionAttributes.getAttribute(RESPONSE_BYTES) == null) {
+            executionAttributes.putAttribute(RESPONSE_BYTES, response.contentLength());
+            if (executionAttributes.getAttribute(STREAMED) == null) {
+                responseInFlight(executionAttributes);
+            }
+        }
+    }
+
+    @Override
+    public Optional<Publisher<ByteBuffer>> modifyAsyncHttpResponseContent(Context.ModifyHttpResponse context, ExecutionAttributes executionAttributes) {
+        var operation = executionAttributes.getAttribute(OPERATION);
+        var content = context.responsePublisher();
+        if (content.isEmpty() || !context.httpResponse().isSuccessful() || !("GetObject".equals(operation) || GET_OBJECT_RANGE.equals(operation))) {
+            return content;
+        }
+        executionAttributes.putAttribute(STREAMED, true);
+        return Optional.of(new CompletionTrackingPublisher(content.get(), executionAttributes));
+    }
+
+    @Override
+    public void afterExecution(Context.AfterExecution context, ExecutionAttributes executionAttributes) {
+        if (executionAttributes.getAttribute(STREAMED) == null) {
+            completed(executionAttributes);
+        }
+    }
+
+    @Override
+    public void onExecutionFailure(Context.FailedExecution context, ExecutionAttributes executionAttributes) {
+        if (executionAttributes.getAttribute(OPERATION) == null) {
+            // the request failed before beforeExecution was reached
+            return;
+        }
+        failed(executionAttributes);
+    }
+
+    private void completed(ExecutionAttributes executionAttributes) {
+        if (!executionAttributes.getAttribute(RECORDED).compareAndSet(false, true)) {
+            return;
+        }
+        var bytes = release(executionAttributes);
+        var latency = elapsed(executionAttributes);
+        metrics.requestCompleted(executionAttributes.getAttribute(OPERATION), bytes, latency);
+        var transferId = executionAttributes.getAttribute(TRANSFER_ID);
+        if (transferId != null) {
+            metrics.transferRequestCompleted(transferId, bytes, latency);
+        }
+    }
+
+    private void failed(ExecutionAttributes executionAttributes) {
+        if (!executionAttributes.getAttribute(RECORDED).compareAndSet(false, true)) {
+            return;
+        }
+        release(executionAttributes);
+        metrics.requestFailed(executionAttributes.getAttribute(OPERATION), elapsed(executionAttributes));
+    }
+
+    private void responseInFlight(ExecutionAttributes executionAttributes) {
+        var bytes = executionAttributes.getAttribute(RESPONSE_BYTES);
+        if (bytes != null && executionAttributes.getAttribute(RESPONSE_IN_FLIGHT).compareAndSet(false, true)) {
+            metrics.inFlightBytesChanged(bytes);
+        }
+    }
+
+    private long release(ExecutionAttributes executionAttributes) {
+        var requestBytes = valueOf(executionAttributes.getAttribute(REQUEST_BYTES));
+        var responseBytes = valueOf(executionAttributes.getAttribute(RESPONSE_BYTES));
+        var inFlight = requestBytes + (executionAttributes.getAttribute(RESPONSE_IN_FLIGHT).get() ? responseBytes : 0);
+        if (inFlight > 0) {
+            metrics.inFlightBytesChanged(-inFlight);
+        }
+        return requestBytes + responseBytes;
+    }
+
+    private Duration elapsed(ExecutionAttributes executionAttributes) {
+        return Duration.ofNanos(System.nanoTime() - executionAttributes.getAttribute(START_NANOS));
+    }
+
+    private long payloadLength(SdkHttpRequest request) {
+        // aws-chunked bodies carrying a trailing checksum announce their payload size separately from the encoded length
+        return request.firstMatchingHeader("x-amz-decoded-content-length")
+                .or(() -> request.firstMatchingHeader("Content-Length"))
+                .map(Long::parseLong)
+                .orElse(0L);
+    }
+
+    private long valueOf(Long value) {
+        return value == null ? 0 : value;
+    }
+
+    /**
+     * Records the request once its response body has been read completely, failed or was cancelled.
+     */
+    private final class CompletionTrackingPublisher implements Publisher<ByteBuffer> {
+        private final Publisher<ByteBuffer> delegate;
+        private final ExecutionAttributes executionAttributes;
+
+        private CompletionTrackingPublisher(Publisher<ByteBuffer> delegate, ExecutionAttributes executionAttributes) {
+            this.delegate = delegate;
+            this.executionAttributes = executionAttributes;
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            responseInFlight(executionAttributes);
+            delegate.subscribe(new Subscriber<ByteBuffer>() {
+                @Override
+                public void onSubscribe(Subscription subscription) {
+                    subscriber.onSubscribe(new Subscription() {
+                        @Override
+                        public void request(long n) {
+                            subscription.request(n);
+                        }
+
+                        @Override
+                        public void cancel() {
+                            failed(executionAttributes);
+                            subscription.cancel();
+                        }
+                    });
+                }
+
+                @Override
+                public void onNext(ByteBuffer byteBuffer) {
+                    subscriber.onNext(byteBuffer);
+                }
+
+                @Override
+                public void onError(Throwable throwable) {
+                    failed(executionAttributes);
+                    subscriber.onError(throwable);
+                }
+
+                @Override
+                public void onComplete() {
+                    completed(executionAttributes);
+                    subscriber.onComplete();
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.AssumeRoleCredentialsCache;
+import org.eclipse.edc.aws.s3.spi.SecretAliasCredentialsCache;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ACCESS_KEY_ID;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION_LEVEL;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ENDPOINT_OVERRIDE;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ROLE_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.SECRET_ACCESS_KEY;
+
+/**
+ * Reads and writes the objects addressed by {@code AmazonS3} DataAddresses through the configured
+ * {@link S3TransferBackend}.
+ * <p>
+ * Clients are expensive to build and each owns its event loops or, with the CRT backend, its native memory, so one
+ * client is kept per region and endpoint and shared by all transfers. Credentials of an address are not part of the
+ * client but applied to every request it sends, so addresses with per-transfer credentials do not multiply clients.
+ * Credentials referenced by the key name of an address are resolved through the {@link SecretAliasCredentialsCache},
+ * so the vault is not consulted for every transfer.
+ * <p>
+ * With a checksum algorithm, uploads carry an additional checksum that S3 validates and stores with the object, and
+ * downloads request the stored checksum so that the SDK validates the content while it is streamed.
+ * <p>
+ * Destinations with a {@code compression} property are compressed with the {@link S3CompressionCodec} it names while
+ * they are uploaded, and stored with the matching {@code Content-Encoding}. {@link #openStream(DataAddress)}
+ * decompresses objects stored with a supported {@code Content-Encoding}, or as the {@code compression} property of
+ * the source states, so readers get the original content back. {@link #read(DataAddress, AsyncResponseTransformer)}
+ * hands out the stored bytes.
+ */
+public class S3TransferService implements AutoCloseable {
+
+    private final S3AsyncClientFactory clientFactory;
+    private final AssumeRoleCredentialsCache roleCredentials;
+    private final SecretAliasCredentialsCache aliasCredentials;
+    private final ChecksumAlgorithm checksumAlgorithm;
+    private final S3CompressionConfiguration compression;
+    private final Map<ClientKey, S3AsyncClient> clients = new ConcurrentHashMap<>();
+    private final DefaultCredentialsProvider defaultCredentials = DefaultCredentialsProvider.builder().build();
+
+    public S3TransferService(S3AsyncClientFactory clientFactory, AssumeRoleCredentialsCache roleCredentials, SecretAliasCredentialsCache aliasCredentials,
+                             @Nullable ChecksumAlgorithm checksumAlgorithm) {
+        this(clientFactory, roleCredentials, aliasCredentials, checksumAlgorithm, S3CompressionConfiguration.defaults());
+    }
+
+    public S3TransferService(S3AsyncClientFactory clientFactory, AssumeRoleCredentialsCache roleCredentials, SecretAliasCredentialsCache aliasCredentials,
+                             @Nullable ChecksumAlgorithm checksumAlgorithm, S3CompressionConfiguration compression) {
+        this.clientFactory = clientFactory;
+        this.roleCredentials = roleCredentials;
+        this.aliasCredentials = aliasCredentials;
+        this.checksumAlgorithm = checksumAlgorithm;
+        this.compression = compression;
+    }
+
+    /**
+     * Downloads the object the address points to and hands the response to the given transformer.
+     *
+     * @param source      the source DataAddress
+     * @param transformer consumes the response
+     * @return the result of the transformer
+     */
+    public <T> CompletableFuture<T> read(DataAddress source, AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        return read(null, source, transformer);
+    }
+
+    /**
+     * Downloads the object the address points to and hands the response to the given transformer. The request is
+     * reported to the {@link org.eclipse.edc.aws.s3.spi.S3TransferMetrics} as part of the given transfer.
+     *
+     * @param transferId  the id of the transfer the download belongs to, or null
+     * @param source      the source DataAddress
+     * @param transformer consumes the response
+     * @return the result of the transformer
+     */
+    public <T> CompletableFuture<T> read(@Nullable String transferId, DataAddress source, AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        var location = S3ObjectLocation.from(source);
+        var request = GetObjectRequest.builder()
+                .bucket(location.bucket())
+                .key(location.key())
+                .checksumMode(checksumAlgorithm == null ? null : ChecksumMode.ENABLED);
+        if (transferId != null) {
+            request.overrideConfiguration(override -> override.putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, transferId));
+        }
+        return client(source).getObject(request.build(), transformer);
+    }
+
+    /**
+     * Downloads the object the address points to as a blocking stream, decompressing compressed objects.
+     *
+     * @param source the source DataAddress
+     * @return the object content, available as soon as the response headers arrived
+     */
+    public CompletableFuture<ResponseInputStream<GetObjectResponse>> openStream(DataAddress source) {
+        return openStream(null, source);
+    }
+
+    /**
+     * Downloads the object the address points to as a blocking stream, decompressing compressed objects. The request
+     * is reported as part of the given transfer.
+     *
+     * @param transferId the id of the transfer the download belongs to, or null
+     * @param source     the source DataAddress
+     * @return the object content, available as soon as the response headers arrived
+     */
+    public CompletableFuture<ResponseInputStream<GetObjectResponse>> openStream(@Nullable String transferId, DataAddress source) {
+        return read(transferId, source, AsyncResponseTransformer.toBlockingInputStream())
+                .thenApply(stream -> {
+                    var codec = Optional.ofNullable(S3CompressionCodec.fromContentEncoding(stream.response().contentEncoding()))
+                            .orElseGet(() -> S3CompressionCodec.fromValue(source.getStringProperty(COMPRESSION)));
+                    return codec == null ? stream : new ResponseInputStream<>(stream.response(), AbortableInputStream.create(codec.decompress(stream), stream::abort));
+                });
+    }
+
+    /**
+     * Uploads the given content to the object the address points to. Depending on the backend and the content
+     * length the upload is split into parts automatically.
+     *
+     * @param destination the destination DataAddress
+     * @param body        the content
+     * @return the response of the upload
+     */
+    public CompletableFuture<PutObjectResponse> write(DataAddress destination, AsyncRequestBody body) {
+        return write(null, destination, body);
+    }
+
+    /**
+     * Uploads the given content to the object the address points to, like {@link #write(DataAddress, AsyncRequestBody)}.
+     * The request is reported as part of the given transfer.
+     *
+     * @param transferId  the id of the transfer the upload belongs to, or null
+     * @param destination the destination DataAddress
+     * @param body        the content
+     * @return the response of the upload
+     */
+    public CompletableFuture<PutObjectResponse> write(@Nullable String transferId, DataAddress destination, AsyncRequestBody body) {
+        Compression compression;
+        try {
+            compression = compression(destination);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(new EdcException("Invalid compression of destination: " + e.getMessage(), e));
+        }
+        return write(transferId, client(destination), S3ObjectLocation.from(destination), compression, body);
+    }
+
+    /**
+     * Uploads the given content to a location through the given client, with the additional checksum and the given
+     * compression. All uploads of whole objects of this module go through here.
+     *
+     * @param transferId  the id of the transfer the upload belongs to, or null
+     * @param client      the client of the destination
+     * @param location    the bucket and key of the object
+     * @param compression the compression of the destination, see {@link #compression(DataAddress)}
+     * @param body        the content
+     * @return the response of the upload
+     */
+    CompletableFuture<PutObjectResponse> write(@Nullable String transferId, S3AsyncClient client, S3ObjectLocation location, @Nullable Compression compression,
+                                              AsyncRequestBody body) {
+        var request = PutObjectRequest.builder()
+                .bucket(location.bucket())
+                .key(location.key())
+                .checksumAlgorithm(checksumAlgorithm)
+                .contentEncoding(compression == null ? null : compression.codec().contentEncoding());
+        if (transferId != null) {
+            request.overrideConfiguration(override -> override.putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, transferId));
+        }
+        return client.putObject(request.build(), compression == null ? body : new CompressingRequestBody(body, compression.codec(), compression.level(),
+                this.compression.chunkSize(), this.compression.maxChunksInFlight(), this.compression.executor()));
+    }
+
+    /**
+     * Returns the compression the {@code compression} and {@code compressionLevel} properties of a destination state.
+     *
+     * @param destination the destination DataAddress
+     * @return the compression, or null if the destination is not compressed
+     * @throws IllegalArgumentException if a property holds an unknown codec or a level outside the codec's levels
+     */
+    static @Nullable Compression compression(DataAddress destination) {
+        var codec = S3CompressionCodec.fromValue(destination.getStringProperty(COMPRESSION));
+        return codec == null ? null : new Compression(codec, codec.level(destination.getStringProperty(COMPRESSION_LEVEL)));
+    }
+
+    /**
+     * Returns a client for the region, endpoint and credentials of the given address. The client is backed by the
+     * client shared by all addresses of the same region and endpoint; if the address carries credentials, they are
+     * applied to every request sent through the returned client.
+     *
+     * @param address the DataAddress
+     * @return the client, owned by this service
+     */
+    public S3AsyncClient client(DataAddress address) {
+        var key = new ClientKey(address.getStringProperty(REGION), address.getStringProperty(ENDPOINT_OVERRIDE));
+        var client = clients.computeIfAbsent(key, k -> clientFactory.create(k.region(), k.endpointOverride(), defaultCredentials));
+        var credentialsProvider = credentialsProvider(address);
+        return credentialsProvider == null ? client : new CredentialsOverridingS3AsyncClient(client, credentialsProvider);
+    }
+
+    @Override
+    public void close() {
+        clients.values().forEach(S3AsyncClient::close);
+        clients.clear();
+        defaultCredentials.close();
+    }
+
+    private @Nullable AwsCredentialsProvider credentialsProvider(DataAddress address) {
+        var roleName = address.getStringProperty(ROLE_NAME);
+        if (roleName != null) {
+            return roleCredentials.credentialsProvider(roleName, null);
+        }
+        var accessKeyId = address.getStringProperty(ACCESS_KEY_ID);
+        var secretAccessKey = address.getStringProperty(SECRET_ACCESS_KEY);
+        if (accessKeyId != null && secretAccessKey != null) {
+            return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKeyId, secretAccessKey));
+        }
+        if (address.getKeyName() != null) {
+            return aliasCredentials.credentialsProvider(address.getKeyName());
+        }
+        return null;
+    }
+
+    record Compression(S3CompressionCodec codec, int level) {
+    }
+
+    private record ClientKey(String region, @Nullable String endpointOverride) {
+    }
+}
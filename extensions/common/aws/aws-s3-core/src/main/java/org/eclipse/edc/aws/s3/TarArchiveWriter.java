@@ -0,0 +1,104 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Writes a POSIX ustar archive with one regular file entry per object. Names longer than 100 bytes are split into
+ * the ustar prefix and name fields, names that cannot be split that way are rejected.
+ */
+class TarArchiveWriter implements S3ArchiveFormat.ArchiveWriter {
+
+    private static final int BLOCK_SIZE = 512;
+    private static final int NAME_LENGTH = 100;
+    private static final int PREFIX_LENGTH = 155;
+
+    private final OutputStream outputStream;
+    private final long modificationTime = System.currentTimeMillis() / 1000;
+
+    TarArchiveWriter(OutputStream outputStream) {
+        this.outputStream = outputStream;
+    }
+
+    @Override
+    public void add(String name, byte[] content) throws IOException {
+        outputStream.write(header(name, content.length));
+        outputStream.write(content);
+        var padding = (BLOCK_SIZE - content.length % BLOCK_SIZE) % BLOCK_SIZE;
+        outputStream.write(new byte[padding]);
+    }
+
+    @Override
+    public void close() throws IOException {
+        outputStream.write(new byte[2 * BLOCK_SIZE]);
+        outputStream.close();
+    }
+
+    private byte[] header(String name, long size) {
+        var header = new byte[BLOCK_SIZE];
+        var nameBytes = name.getBytes(StandardCharsets.UTF_8);
+        if (nameBytes.length <= NAME_LENGTH) {
+            System.arraycopy(nameBytes, 0, header, 0, nameBytes.length);
+        } else {
+            var split = prefixSplit(nameBytes);
+            System.arraycopy(nameBytes, split + 1, header, 0, nameBytes.length - split - 1);
+            System.arraycopy(nameBytes, 0, header, 345, split);
+        }
+        octal(header, 100, 8, 0644);
+        octal(header, 108, 8, 0);
+        octal(header, 116, 8, 0);
+        octal(header, 124, 12, size);
+        octal(header, 136, 12, modificationTime);
+        header[156] = '0';
+        ascii(header, 257, "ustar\0");
+        ascii(header, 263, "00");
+
+        for (var i = 148; i < 156; i++) {
+            header[i] = ' ';
+        }
+        var checksum = 0L;
+        for (var b : header) {
+            checksum += b & 0xff;
+        }
+        octal(header, 148, 7, checksum);
+        return header;
+    }
+
+    private int prefixSplit(byte[] name) {
+        for (var i = Math.min(name.length - 2, PREFIX_LENGTH); i > 0; i--) {
+            if (name[i] == '/' && name.length - i - 1 <= NAME_LENGTH) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Object name too long for a tar entry: " + new String(name, StandardCharsets.UTF_8));
+    }
+
+    private void octal(byte[] header, int offset, int length, long value) {
+        var digits = Long.toOctalString(value);
+        if (digits.length() > length - 1) {
+            throw new IllegalArgumentException("Value %d does not fit into a tar header field of length %d".formatted(value, length));
+        }
+        ascii(header, offset, "0".repeat(length - 1 - digits.length()) + digits);
+        header[offset + length - 1] = 0;
+    }
+
+    private void ascii(byte[] header, int offset, String value) {
+        var bytes = value.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(bytes, 0, header, offset, bytes.length);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AimdConcurrencyControllerTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+
+    @Test
+    void tryAcquire_shouldLimitRequestsInFlight() {
+        var controller = new AimdConcurrencyController(2, 1, 8, nanoTime::get);
+
+        assertThat(controller.tryAcquire()).isTrue();
+        assertThat(controller.tryAcquire()).isTrue();
+        assertThat(controller.tryAcquire()).isFalse();
+
+        controller.release();
+
+        assertThat(controller.tryAcquire()).isTrue();
+    }
+
+    @Test
+    void completed_shouldIncreaseLimitByOne_whileThroughputGrows() {
+        var controller = new AimdConcurrencyController(2, 1, 4, nanoTime::get);
+
+        completeWindow(controller, 100);
+        assertThat(controller.limit()).isEqualTo(3);
+        completeWindow(controller, 150);
+        assertThat(controller.limit()).isEqualTo(4);
+        completeWindow(controller, 200);
+        assertThat(controller.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void completed_shouldDecreaseLimitByOne_whenThroughputDrops() {
+        var controller = new AimdConcurrencyController(4, 1, 8, nanoTime::get);
+
+        completeWindow(controller, 100);
+        assertThat(controller.limit()).isEqualTo(5);
+        completeWindow(controller, 50);
+        assertThat(controller.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void throttled_shouldHalveLimitOncePerWindow() {
+        var controller = new AimdConcurrencyController(8, 1, 8, nanoTime::get);
+
+        controller.throttled();
+        controller.throttled();
+        assertThat(controller.limit()).isEqualTo(4);
+
+        completeWindow(controller, 100);
+        assertThat(controller.limit()).isEqualTo(4);
+        controller.throttled();
+        assertThat(controller.limit()).isEqualTo(2);
+    }
+
+    @Test
+    void throttled_shouldNotGoBelowMinimum() {
+        var controller = new AimdConcurrencyController(1, 1, 8, nanoTime::get);
+
+        controller.throttled();
+
+        assertThat(controller.limit()).isEqualTo(1);
+    }
+
+    @Test
+    void shouldKeepFixedLimit_whenMinimumEqualsMaximum() {
+        var controller = new AimdConcurrencyController(4, 4, 4, nanoTime::get);
+
+        completeWindow(controller, 100);
+        controller.throttled();
+
+        assertThat(controller.limit()).isEqualTo(4);
+    }
+
+    @Test
+    void shouldFail_whenLimitsAreInvalid() {
+        assertThatThrownBy(() -> new AimdConcurrencyController(1, 0, 4)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new AimdConcurrencyController(1, 4, 2)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    /**
+     * Completes as many requests of 1,000 bytes as the current limit within one second per 1,000 bytes per second
+     * of the given throughput.
+     */
+    private void completeWindow(AimdConcurrencyController controller, long bytesPerSecond) {
+        var requests = controller.limit();
+        nanoTime.addAndGet(requests * 1_000L * 1_000_000_000L / bytesPerSecond);
+        for (var i = 0; i < requests; i++) {
+            controller.completed(1_000);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompressingRequestBodyTest {
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void subscribe_shouldEmitContentCompressedInOrder(S3CompressionCodec codec) throws Exception {
+        var content = new byte[5 * 1024 * 1024 + 123];
+        new Random(1).nextBytes(content);
+        Arrays.fill(content, 0, content.length / 2, (byte) 'x');
+        var buffers = new ByteBuffer[content.length / 100_000 + 1];
+        for (var i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(content, i * 100_000, Math.min(100_000, content.length - i * 100_000));
+        }
+        var body = new CompressingRequestBody(AsyncRequestBody.fromByteBuffers(buffers), codec, codec.defaultLevel(), 256 * 1024, 4, ForkJoinPool.commonPool());
+
+        var compressed = InMemoryS3AsyncClient.collect(body).get(30, TimeUnit.SECONDS);
+
+        assertThat(body.contentLength()).isEmpty();
+        assertThat(compressed.length).isLessThan(content.length);
+        assertThat(decompress(codec, compressed)).isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void subscribe_shouldEmitContentCompressedInOrder_whenSourceLengthIsUnknown(S3CompressionCodec codec) throws Exception {
+        var content = new byte[700 * 1024 + 17];
+        new Random(2).nextBytes(content);
+        var buffers = new ByteBuffer[content.length / 10_000 + 1];
+        for (var i = 0; i < buffers.length; i++) {
+            buffers[i] = ByteBuffer.wrap(content, i * 10_000, Math.min(10_000, content.length - i * 10_000));
+        }
+        var source = AsyncRequestBody.fromPublisher(AsyncRequestBody.fromByteBuffers(buffers));
+        var body = new CompressingRequestBody(source, codec, codec.defaultLevel(), 256 * 1024, 4, ForkJoinPool.commonPool());
+
+        var compressed = InMemoryS3AsyncClient.collect(body).get(30, TimeUnit.SECONDS);
+
+        assertThat(source.contentLength()).isEmpty();
+        assertThat(decompress(codec, compressed)).isEqualTo(content);
+    }
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void subscribe_shouldOnlyAllocateContentLength_whenSourceIsSmallerThanChunk(S3CompressionCodec codec) throws Exception {
+        // a chunk of this size cannot be allocated, so the body must size its buffer by the content length
+        var body = new CompressingRequestBody(AsyncRequestBody.fromString("content"), codec, codec.defaultLevel(), Integer.MAX_VALUE - 8, 2, ForkJoinPool.commonPool());
+
+        var compressed = InMemoryS3AsyncClient.collect(body).get(10, TimeUnit.SECONDS);
+
+        assertThat(decompress(codec, compressed)).isEqualTo("content".getBytes());
+    }
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void subscribe_shouldEmitValidStream_whenSourceIsEmpty(S3CompressionCodec codec) throws Exception {
+        var body = new CompressingRequestBody(AsyncRequestBody.empty(), codec, codec.defaultLevel(), 1024, 2, ForkJoinPool.commonPool());
+
+        var compressed = InMemoryS3AsyncClient.collect(body).get(10, TimeUnit.SECONDS);
+
+        assertThat(compressed).isNotEmpty();
+        assertThat(decompress(codec, compressed)).isEmpty();
+    }
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void subscribe_shouldFail_whenCompressionFails(S3CompressionCodec codec) {
+        var body = new CompressingRequestBody(AsyncRequestBody.fromString("content"), codec, codec.defaultLevel(), 1024, 2, command -> {
+            throw new IllegalStateException("rejected");
+        });
+
+        assertThatThrownBy(() -> InMemoryS3AsyncClient.collect(body).get(10, TimeUnit.SECONDS)).hasRootCauseMessage("rejected");
+    }
+
+    private byte[] decompress(S3CompressionCodec codec, byte[] compressed) throws IOException {
+        try (var stream = codec.decompress(new ByteArrayInputStream(compressed))) {
+            return stream.readAllBytes();
+        }
+    }
+}
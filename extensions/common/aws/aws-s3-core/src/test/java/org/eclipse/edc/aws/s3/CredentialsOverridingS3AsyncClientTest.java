@@ -0,0 +1,74 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class CredentialsOverridingS3AsyncClientTest {
+
+    private final S3AsyncClient delegate = mock();
+    private final StaticCredentialsProvider credentials = StaticCredentialsProvider.create(AwsBasicCredentials.create("accessKeyId", "secret"));
+    private final CredentialsOverridingS3AsyncClient client = new CredentialsOverridingS3AsyncClient(delegate, credentials);
+
+    @Test
+    void putObject_shouldSignRequestWithCredentials() {
+        var body = AsyncRequestBody.fromString("content");
+
+        client.putObject(PutObjectRequest.builder().bucket("bucket").key("key").build(), body);
+
+        var captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(delegate).putObject(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getValue().bucket()).isEqualTo("bucket");
+        assertThat(captor.getValue().overrideConfiguration()).hasValueSatisfying(override ->
+                assertThat(override.credentialsIdentityProvider()).containsSame(credentials));
+    }
+
+    @Test
+    void uploadPart_shouldKeepOtherOverrideConfiguration() {
+        var body = AsyncRequestBody.fromString("content");
+
+        client.uploadPart(UploadPartRequest.builder().bucket("bucket").partNumber(1)
+                .overrideConfiguration(override -> override.apiCallTimeout(Duration.ofSeconds(5))).build(), body);
+
+        var captor = ArgumentCaptor.forClass(UploadPartRequest.class);
+        verify(delegate).uploadPart(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getValue().overrideConfiguration()).hasValueSatisfying(override -> {
+            assertThat(override.apiCallTimeout()).contains(Duration.ofSeconds(5));
+            assertThat(override.credentialsIdentityProvider()).containsSame(credentials);
+        });
+    }
+
+    @Test
+    void close_shouldLeaveSharedClientOpen() {
+        client.close();
+
+        verify(delegate, times(0)).close();
+    }
+}
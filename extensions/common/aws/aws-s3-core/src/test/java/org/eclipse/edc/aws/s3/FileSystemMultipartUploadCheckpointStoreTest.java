@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpoint;
+import org.eclipse.edc.spi.EdcException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class FileSystemMultipartUploadCheckpointStoreTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    void find_shouldReturnNull_whenNoCheckpointExists() {
+        var store = new FileSystemMultipartUploadCheckpointStore(directory);
+
+        assertThat(store.find("unknown")).isNull();
+    }
+
+    @Test
+    void save_shouldPersistCheckpointAcrossInstances() {
+        var checkpoint = new MultipartUploadCheckpoint("bucket", "folder/object", "upload-id", 1024, 2048, 1767225600000L, List.of(
+                new MultipartUploadCheckpoint.Part(2, "\"etag-2\"", "yZRlqg=="),
+                new MultipartUploadCheckpoint.Part(1, "\"etag-1\"")
+        ));
+
+        var result = new FileSystemMultipartUploadCheckpointStore(directory).save("urn:transfer:1", checkpoint);
+
+        assertThat(result.succeeded()).isTrue();
+        var found = new FileSystemMultipartUploadCheckpointStore(directory).find("urn:transfer:1");
+        assertThat(found).isEqualTo(checkpoint);
+        assertThat(found.completedParts()).extracting(MultipartUploadCheckpoint.Part::partNumber).containsExactly(1, 2);
+    }
+
+    @Test
+    void find_shouldReturnCheckpointMatchingNoFile_whenWrittenWithoutFileIdentity() throws IOException {
+        Files.writeString(directory.resolve("dHJhbnNmZXI.properties"), "bucket=bucket\nkey=key\nuploadId=upload-id\npartSize=1024\n");
+
+        var found = new FileSystemMultipartUploadCheckpointStore(directory).find("transfer");
+
+        assertThat(found).isNotNull();
+        assertThat(found.fileSize()).isEqualTo(-1);
+        assertThat(found.isSameFile(0, 0)).isFalse();
+    }
+
+    @Test
+    void save_shouldAppendParts_whenUploadIsUnchanged() throws IOException {
+        var store = new FileSystemMultipartUploadCheckpointStore(directory);
+        var checkpoint = new MultipartUploadCheckpoint("bucket", "key", "upload-id", 1024, 4096, 1767225600000L, List.of());
+        store.save("transfer", checkpoint);
+        var file = singleFile();
+        var header = Files.readString(file);
+
+        for (var partNumber = 1; partNumber <= 3; partNumber++) {
+            checkpoint = checkpoint.withPart(new MultipartUploadCheckpoint.Part(partNumber, "\"etag-%d\"".formatted(partNumber), "yZRlqg=="));
+            store.save("transfer", checkpoint);
+        }
+
+        assertThat(Files.readString(file)).startsWith(header);
+        assertThat(new FileSystemMultipartUploadCheckpointStore(directory).find("transfer")).isEqualTo(checkpoint);
+    }
+
+    @Test
+    void save_shouldReplaceCheckpoint_whenUploadChanged() {
+        var store = new FileSystemMultipartUploadCheckpointStore(directory);
+        store.save("transfer", new MultipartUploadCheckpoint("bucket", "key", "upload-id", 1024, 4096, 1767225600000L,
+                List.of(new MultipartUploadCheckpoint.Part(1, "\"etag-1\""))));
+        var replacement = new MultipartUploadCheckpoint("bucket", "key", "other-upload-id", 1024, 4096, 1767225600000L, List.of());
+
+        store.save("transfer", replacement);
+
+        assertThat(store.find("transfer")).isEqualTo(replacement);
+    }
+
+    @Test
+    void find_shouldIgnorePartiallyAppendedPart() throws IOException {
+        var store = new FileSystemMultipartUploadCheckpointStore(directory);
+        var checkpoint = new MultipartUploadCheckpoint("bucket", "key", "upload-id", 1024, 4096, 1767225600000L,
+                List.of(new MultipartUploadCheckpoint.Part(1, "\"etag-1\"")));
+        store.save("transfer", checkpoint);
+        Files.writeString(singleFile(), "part.2=\"eta", StandardOpenOption.APPEND);
+
+        assertThat(store.find("transfer")).isEqualTo(checkpoint);
+    }
+
+    @Test
+    void find_shouldThrow_whenCheckpointIsCorrupt() throws IOException {
+        Files.writeString(directory.resolve("dHJhbnNmZXI.properties"), "bucket=bucket\nkey=key\nuploadId=upload-id\npartSize=large\n");
+
+        assertThatThrownBy(() -> new FileSystemMultipartUploadCheckpointStore(directory).find("transfer"))
+                .isInstanceOf(EdcException.class)
+                .hasMessageContaining("Corrupt checkpoint");
+    }
+
+    @Test
+    void delete_shouldRemoveCheckpoint() {
+        var store = new FileSystemMultipartUploadCheckpointStore(directory);
+        store.save("transfer", new MultipartUploadCheckpoint("bucket", "key", "upload-id", 1024, 2048, 1767225600000L, List.of()));
+
+        store.delete("transfer");
+
+        assertThat(store.find("transfer")).isNull();
+    }
+
+    private Path singleFile() throws IOException {
+        try (var files = Files.list(directory)) {
+            return files.findFirst().orElseThrow();
+        }
+    }
+}
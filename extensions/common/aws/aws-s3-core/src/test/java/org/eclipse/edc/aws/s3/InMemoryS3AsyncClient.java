@@ -0,0 +1,281 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.reactivestreams.Publisher;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.NoSuchUploadException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-memory stand-in for S3, implementing the operations used by the transfer classes. An artificial latency
+ * can be added to every request to mimic the round trip to a remote endpoint, and part uploads can be made to fail
+ * to simulate an interrupted transfer or be throttled with {@code 503 SlowDown}. Multipart uploads created with a checksum algorithm report part and composite
+ * checksums like S3 does, and parts can be corrupted on arrival to simulate damage in transit.
+ */
+class InMemoryS3AsyncClient implements S3AsyncClient {
+
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final Map<String, ChecksumAlgorithm> uploadChecksums = new ConcurrentHashMap<>();
+    private final Set<Integer> corruptedParts = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger uploadPartCalls = new AtomicInteger();
+    private final Executor executor;
+    private final AtomicInteger throttledUploadParts = new AtomicInteger();
+    private volatile int failUploadPartsAfter = Integer.MAX_VALUE;
+
+    InMemoryS3AsyncClient() {
+        this(Duration.ZERO);
+    }
+
+    InMemoryS3AsyncClient(Duration latency) {
+        executor = latency.isZero() ? Runnable::run : CompletableFuture.delayedExecutor(latency.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    byte[] object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    int objectCount() {
+        return objects.size();
+    }
+
+    int uploadPartCalls() {
+        return uploadPartCalls.get();
+    }
+
+    int pendingUploads() {
+        return uploads.size();
+    }
+
+    /**
+     * Lets every part upload after the given number of calls fail with an internal error, {@link Integer#MAX_VALUE}
+     * to stop failing.
+     */
+    void failUploadPartsAfter(int calls) {
+        uploadPartCalls.set(0);
+        failUploadPartsAfter = calls;
+    }
+
+    /**
+     * Lets the next part uploads fail with {@code 503 SlowDown}.
+     */
+    void throttleUploadParts(int count) {
+        throttledUploadParts.set(count);
+    }
+
+    /**
+     * Flips a bit of the given part when it arrives, after the client computed its checksum.
+     */
+    void corruptPart(int partNumber) {
+        corruptedParts.add(partNumber);
+    }
+
+    @Override
+    public CompletableFuture<PutObjectResponse> putObject(PutObjectRequest request, AsyncRequestBody body) {
+        return collect(body).thenApplyAsync(content -> {
+            objects.put(request.bucket() + "/" + request.key(), content);
+            return PutObjectResponse.builder().eTag(eTag(content)).build();
+        }, executor);
+    }
+
+    @Override
+    public <T> CompletableFuture<T> getObject(GetObjectRequest request, AsyncResponseTransformer<GetObjectResponse, T> transformer) {
+        var content = objects.get(request.bucket() + "/" + request.key());
+        if (content == null) {
+            return CompletableFuture.failedFuture(NoSuchKeyException.builder().message("No such key: " + request.key()).build());
+        }
+        var result = transformer.prepare();
+        CompletableFuture.runAsync(() -> {
+            transformer.onResponse(GetObjectResponse.builder().contentLength((long) content.length).build());
+            transformer.onStream(AsyncRequestBody.fromBytes(content));
+        }, executor);
+        return result;
+    }
+
+    @Override
+    public CompletableFuture<CreateMultipartUploadResponse> createMultipartUpload(CreateMultipartUploadRequest request) {
+        var uploadId = UUID.randomUUID().toString();
+        uploads.put(uploadId, new ConcurrentHashMap<>());
+        if (request.checksumAlgorithm() != null) {
+            uploadChecksums.put(uploadId, request.checksumAlgorithm());
+        }
+        return CompletableFuture.supplyAsync(() -> CreateMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .uploadId(uploadId)
+                .build(), executor);
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+        var parts = uploads.get(request.uploadId());
+        if (parts == null) {
+            return CompletableFuture.failedFuture(NoSuchUploadException.builder().message("No such upload: " + request.uploadId()).build());
+        }
+        if (uploadPartCalls.incrementAndGet() > failUploadPartsAfter) {
+            return CompletableFuture.failedFuture(S3Exception.builder().message("We encountered an internal error").statusCode(500).build());
+        }
+        if (throttledUploadParts.getAndUpdate(count -> Math.max(0, count - 1)) > 0) {
+            return CompletableFuture.failedFuture(slowDown());
+        }
+        var algorithm = uploadChecksums.get(request.uploadId());
+        return collect(body).thenApplyAsync(content -> {
+            if (corruptedParts.contains(request.partNumber())) {
+                content[0] ^= 1;
+            }
+            parts.put(request.partNumber(), content);
+            var response = UploadPartResponse.builder().eTag(eTag(content));
+            if (algorithm == ChecksumAlgorithm.CRC32_C) {
+                response.checksumCRC32C(S3Checksums.compute(algorithm, ByteBuffer.wrap(content)));
+            } else if (algorithm == ChecksumAlgorithm.SHA256) {
+                response.checksumSHA256(S3Checksums.compute(algorithm, ByteBuffer.wrap(content)));
+            }
+            return response.build();
+        }, executor);
+    }
+
+    @Override
+    public CompletableFuture<CompleteMultipartUploadResponse> completeMultipartUpload(CompleteMultipartUploadRequest request) {
+        var parts = uploads.remove(request.uploadId());
+        if (parts == null) {
+            return CompletableFuture.failedFuture(NoSuchUploadException.builder().message("No such upload: " + request.uploadId()).build());
+        }
+        var algorithm = uploadChecksums.remove(request.uploadId());
+        var content = new ByteArrayOutputStream();
+        for (var part : request.multipartUpload().parts()) {
+            var partContent = parts.get(part.partNumber());
+            if (partContent == null || !eTag(partContent).equals(part.eTag()) || !checksumMatches(algorithm, part, partContent)) {
+                return CompletableFuture.failedFuture(S3Exception.builder().message("Invalid part " + part.partNumber()).statusCode(400).build());
+            }
+            content.writeBytes(partContent);
+        }
+        objects.put(request.bucket() + "/" + request.key(), content.toByteArray());
+
+        var response = CompleteMultipartUploadResponse.builder()
+                .bucket(request.bucket())
+                .key(request.key())
+                .eTag(eTag(content.toByteArray()) + "-" + request.multipartUpload().parts().size());
+        if (algorithm != null) {
+            var composite = S3Checksums.composite(algorithm, partChecksums(algorithm, request.multipartUpload().parts(), parts));
+            if (algorithm == ChecksumAlgorithm.CRC32_C) {
+                response.checksumCRC32C(composite);
+            } else {
+                response.checksumSHA256(composite);
+            }
+        }
+        return CompletableFuture.supplyAsync(response::build, executor);
+    }
+
+    @Override
+    public CompletableFuture<AbortMultipartUploadResponse> abortMultipartUpload(AbortMultipartUploadRequest request) {
+        uploads.remove(request.uploadId());
+        return CompletableFuture.completedFuture(AbortMultipartUploadResponse.builder().build());
+    }
+
+    @Override
+    public String serviceName() {
+        return SERVICE_NAME;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    private static boolean checksumMatches(ChecksumAlgorithm algorithm, CompletedPart part, byte[] content) {
+        if (algorithm == null) {
+            return true;
+        }
+        var checksum = algorithm == ChecksumAlgorithm.CRC32_C ? part.checksumCRC32C() : part.checksumSHA256();
+        return Objects.equals(checksum, S3Checksums.compute(algorithm, ByteBuffer.wrap(content)));
+    }
+
+    private static List<String> partChecksums(ChecksumAlgorithm algorithm, List<CompletedPart> completedParts, Map<Integer, byte[]> parts) {
+        return completedParts.stream()
+                .map(part -> S3Checksums.compute(algorithm, ByteBuffer.wrap(parts.get(part.partNumber()))))
+                .toList();
+    }
+
+    static RuntimeException slowDown() {
+        return S3Exception.builder().message("Please reduce your request rate.").statusCode(503).build();
+    }
+
+    private static String eTag(byte[] content) {
+        return Integer.toHexString(Arrays.hashCode(content));
+    }
+
+    static CompletableFuture<byte[]> collect(Publisher<ByteBuffer> body) {
+        var result = new CompletableFuture<byte[]>();
+        var content = new ByteArrayOutputStream();
+        body.subscribe(new Subscriber<>() {
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(ByteBuffer buffer) {
+                var bytes = new byte[buffer.remaining()];
+                buffer.get(bytes);
+                content.writeBytes(bytes);
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                result.completeExceptionally(throwable);
+            }
+
+            @Override
+            public void onComplete() {
+                result.complete(content.toByteArray());
+            }
+        });
+        return result;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpoint;
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.result.StoreResult;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ResumableMultipartUploaderTest {
+
+    private static final int PART_SIZE = 1024;
+    private static final String TRANSFER_ID = "transfer-id";
+
+    private final InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient();
+    private final S3TransferService transferService = mock();
+    private final DataAddress destination = DataAddress.Builder.newInstance()
+            .type(TYPE)
+            .property(BUCKET_NAME, "bucket")
+            .property(REGION, "eu-west-1")
+            .property(OBJECT_NAME, "object")
+            .build();
+    private MultipartUploadCheckpointStore checkpointStore;
+    private ResumableMultipartUploader uploader;
+    private Path file;
+    private byte[] content;
+
+    @BeforeEach
+    void setup(@TempDir Path directory) throws IOException {
+        when(transferService.client(any())).thenReturn(s3);
+        checkpointStore = new FileSystemMultipartUploadCheckpointStore(directory.resolve("checkpoints"));
+        uploader = uploader(null);
+        content = new byte[10 * PART_SIZE + 100];
+        new Random(7).nextBytes(content);
+        file = Files.write(directory.resolve("content.bin"), content);
+    }
+
+    @Test
+    void upload_shouldUploadAllPartsAndDeleteCheckpoint() {
+        uploader.upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+        assertThat(s3.uploadPartCalls()).isEqualTo(11);
+        assertThat(checkpointStore.find(TRANSFER_ID)).isNull();
+    }
+
+    @Test
+    void upload_shouldResumeFromLastCompletedPart_whenPreviousAttemptFailed() {
+        s3.failUploadPartsAfter(6);
+
+        assertThatThrownBy(() -> uploader.upload(TRANSFER_ID, destination, file).join()).hasRootCauseInstanceOf(S3Exception.class);
+        var checkpoint = checkpointStore.find(TRANSFER_ID);
+        assertThat(checkpoint).isNotNull();
+        assertThat(checkpoint.completedParts()).hasSize(6);
+
+        s3.failUploadPartsAfter(Integer.MAX_VALUE);
+        var restartedUploader = uploader(null);
+        restartedUploader.upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(s3.uploadPartCalls()).isEqualTo(5);
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(checkpointStore.find(TRANSFER_ID)).isNull();
+    }
+
+    @Test
+    void upload_shouldStartOver_whenCheckpointIsCorrupt(@TempDir Path directory) throws IOException {
+        var checkpoints = directory.resolve("corrupt");
+        var corruptStore = new FileSystemMultipartUploadCheckpointStore(checkpoints);
+        corruptStore.save(TRANSFER_ID, new MultipartUploadCheckpoint("bucket", "object", "upload-id", PART_SIZE, content.length, 0, List.of()));
+        try (var files = Files.list(checkpoints)) {
+            var checkpointFile = files.findFirst().orElseThrow();
+            Files.writeString(checkpointFile, Files.readString(checkpointFile).replace("partSize=" + PART_SIZE, "partSize=corrupt"));
+        }
+
+        new ResumableMultipartUploader(transferService, corruptStore, mock(Monitor.class), PART_SIZE, 2, false, null, ForkJoinPool.commonPool())
+                .upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(s3.uploadPartCalls()).isEqualTo(11);
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+        assertThat(corruptStore.find(TRANSFER_ID)).isNull();
+    }
+
+    @Test
+    void upload_shouldStartOver_whenCheckpointBelongsToDifferentObject() {
+        s3.failUploadPartsAfter(3);
+        assertThatThrownBy(() -> uploader.upload(TRANSFER_ID, destination, file).join());
+        s3.failUploadPartsAfter(Integer.MAX_VALUE);
+
+        var otherDestination = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "eu-west-1")
+                .property(OBJECT_NAME, "other-object")
+                .build();
+        uploader.upload(TRANSFER_ID, otherDestination, file).join();
+
+        assertThat(s3.uploadPartCalls()).isEqualTo(11);
+        assertThat(s3.object("bucket", "other-object")).isEqualTo(content);
+        assertThat(s3.pendingUploads()).isZero();
+    }
+
+    @Test
+    void upload_shouldStartOver_whenFileChangedSinceCheckpoint() throws IOException {
+        s3.failUploadPartsAfter(6);
+        assertThatThrownBy(() -> uploader.upload(TRANSFER_ID, destination, file).join());
+        s3.failUploadPartsAfter(Integer.MAX_VALUE);
+
+        content[0]++;
+        Files.write(file, content);
+        touch(file);
+        uploader(null).upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(s3.uploadPartCalls()).isEqualTo(11);
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(checkpointStore.find(TRANSFER_ID)).isNull();
+    }
+
+    @Test
+    void upload_shouldFail_whenFileIsModifiedDuringUpload(@TempDir Path directory) {
+        var modifyingStore = new FileSystemMultipartUploadCheckpointStore(directory) {
+            @Override
+            public StoreResult<Void> save(String transferId, MultipartUploadCheckpoint checkpoint) {
+                if (checkpoint.completedParts().size() == 11) {
+                    touch(file);
+                }
+                return super.save(transferId, checkpoint);
+            }
+        };
+        var modifyingUploader = new ResumableMultipartUploader(transferService, modifyingStore, mock(Monitor.class), PART_SIZE, 2, false, null, ForkJoinPool.commonPool());
+
+        assertThatThrownBy(() -> modifyingUploader.upload(TRANSFER_ID, destination, file).join())
+                .hasRootCauseInstanceOf(EdcException.class)
+                .hasMessageContaining("was modified while it was uploaded");
+        assertThat(s3.objectCount()).isZero();
+        assertThat(s3.pendingUploads()).isZero();
+        assertThat(modifyingStore.find(TRANSFER_ID)).isNull();
+    }
+
+    @Test
+    void upload_shouldVerifyCompositeChecksum_whenChecksumAlgorithmIsConfigured() {
+        var response = uploader(ChecksumAlgorithm.CRC32_C).upload(TRANSFER_ID, destination, file).join();
+
+        var partChecksums = IntStream.range(0, 11)
+                .mapToObj(i -> S3Checksums.compute(ChecksumAlgorithm.CRC32_C, ByteBuffer.wrap(Arrays.copyOfRange(content, i * PART_SIZE, Math.min(content.length, (i + 1) * PART_SIZE)))))
+                .toList();
+        assertThat(response.checksumCRC32C()).isEqualTo(S3Checksums.composite(ChecksumAlgorithm.CRC32_C, partChecksums)).endsWith("-11");
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+    }
+
+    @Test
+    void upload_shouldResumeWithPartChecksumsFromCheckpoint() {
+        var checksumUploader = uploader(ChecksumAlgorithm.SHA256);
+        s3.failUploadPartsAfter(4);
+        assertThatThrownBy(() -> checksumUploader.upload(TRANSFER_ID, destination, file).join());
+        assertThat(checkpointStore.find(TRANSFER_ID).completedParts()).allSatisfy(part -> assertThat(part.checksum()).isNotNull());
+
+        s3.failUploadPartsAfter(Integer.MAX_VALUE);
+        var response = uploader(ChecksumAlgorithm.SHA256).upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(response.checksumSHA256()).endsWith("-11");
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+    }
+
+    @Test
+    void upload_shouldFail_whenPartIsCorruptedInTransit() {
+        s3.corruptPart(3);
+
+        assertThatThrownBy(() -> uploader(ChecksumAlgorithm.CRC32_C).upload(TRANSFER_ID, destination, file).join())
+                .hasRootCauseInstanceOf(EdcException.class)
+                .hasMessageContaining("Checksum mismatch for part 3");
+        assertThat(checkpointStore.find(TRANSFER_ID).isCompleted(3)).isFalse();
+    }
+
+    @Test
+    void upload_shouldRetryThrottledParts_whenAutoTuning() {
+        s3.throttleUploadParts(3);
+        var autoTuningUploader = new ResumableMultipartUploader(transferService, checkpointStore, mock(Monitor.class), PART_SIZE, 4, true, null, ForkJoinPool.commonPool());
+
+        autoTuningUploader.upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+        assertThat(s3.uploadPartCalls()).isEqualTo(14);
+    }
+
+    @Test
+    void upload_shouldLowerConcurrencyLimit_whenPartIsThrottled() {
+        s3.throttleUploadParts(1);
+        var limits = new ArrayList<Integer>();
+        var autoTuningUploader = new ResumableMultipartUploader(transferService, checkpointStore, mock(Monitor.class), PART_SIZE, 8, true, null, ForkJoinPool.commonPool()) {
+            @Override
+            AimdConcurrencyController concurrencyController() {
+                var initial = super.concurrencyController();
+                return new AimdConcurrencyController(initial.limit(), 1, 8) {
+                    @Override
+                    public synchronized void throttled() {
+                        super.throttled();
+                        limits.add(limit());
+                    }
+                };
+            }
+        };
+
+        autoTuningUploader.upload(TRANSFER_ID, destination, file).join();
+
+        assertThat(limits).containsExactly(2);
+        assertThat(s3.object("bucket", "object")).isEqualTo(content);
+    }
+
+    private static void touch(Path file) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(Files.getLastModifiedTime(file).toMillis() + 60_000));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ResumableMultipartUploader uploader(ChecksumAlgorithm checksumAlgorithm) {
+        return new ResumableMultipartUploader(transferService, checkpointStore, mock(Monitor.class), PART_SIZE, 2, false, checksumAlgorithm, ForkJoinPool.commonPool());
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ARCHIVE_FORMAT;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Writes 100,000 objects of 1 KiB each through the {@link S3BatchWriter} against an in-memory S3 stand-in that adds
+ * a fixed latency to every request. Only runs when the {@code EDC_AWS_S3_BENCHMARK} environment variable is
+ * {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "EDC_AWS_S3_BENCHMARK", matches = "true")
+class S3BatchWriterBenchmarkTest {
+
+    private static final int OBJECT_COUNT = 100_000;
+    private static final int OBJECT_SIZE = 1024;
+    private static final Duration REQUEST_LATENCY = Duration.ofMillis(10);
+
+    private static Stream<Arguments> modes() {
+        return Stream.of(
+                Arguments.of("objects, 16 in flight", 16, null),
+                Arguments.of("objects, 256 in flight", 256, null),
+                Arguments.of("objects, 1024 in flight", 1024, null),
+                Arguments.of("tar archive", 1, "tar"),
+                Arguments.of("zip archive", 1, "zip")
+        );
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("modes")
+    void write(String mode, int maxInFlight, String archiveFormat) {
+        var s3 = new InMemoryS3AsyncClient(REQUEST_LATENCY);
+        var clientFactory = mock(S3AsyncClientFactory.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(s3);
+        var transferService = new S3TransferService(clientFactory, mock(), mock(), ChecksumAlgorithm.CRC32_C);
+        var destination = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "eu-west-1")
+                .property(OBJECT_NAME, "objects." + archiveFormat);
+        if (archiveFormat != null) {
+            destination.property(ARCHIVE_FORMAT, archiveFormat);
+        }
+
+        var start = System.nanoTime();
+        var result = new S3BatchWriter(transferService, maxInFlight).write(destination.build(), objects());
+        var seconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(result.succeeded()).isTrue();
+        System.out.printf("%-24s %8.2f s, %10.0f objects/s%n", mode, seconds, OBJECT_COUNT / seconds);
+    }
+
+    private Iterator<S3BatchObject> objects() {
+        var content = new byte[OBJECT_SIZE];
+        new Random(42).nextBytes(content);
+        return IntStream.range(0, OBJECT_COUNT)
+                .mapToObj(i -> new S3BatchObject("object-%06d".formatted(i), content))
+                .iterator();
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.result.Failure;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ARCHIVE_FORMAT;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION_LEVEL;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.FOLDER_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3BatchWriterTest {
+
+    private final S3AsyncClientFactory clientFactory = mock();
+    private final S3TransferService transferService = new S3TransferService(clientFactory, mock(), mock(), ChecksumAlgorithm.CRC32_C);
+    private final InMemoryS3AsyncClient s3 = new InMemoryS3AsyncClient(Duration.ofMillis(5));
+
+    @BeforeEach
+    void setup() {
+        when(clientFactory.create(any(), any(), any())).thenReturn(s3);
+    }
+
+    @Test
+    void write_shouldUploadEveryObjectIntoFolder() {
+        var writer = new S3BatchWriter(transferService, 8);
+
+        var result = writer.write(destination().property(FOLDER_NAME, "folder").build(), objects(100));
+
+        assertThat(result).isSucceeded();
+        assertThat(s3.objectCount()).isEqualTo(100);
+        assertThat(s3.object("bucket", "folder/object-42")).isEqualTo("content-42".getBytes());
+    }
+
+    @Test
+    void write_shouldNotExceedMaxInFlight() {
+        var inFlight = new AtomicInteger();
+        var maxObserved = new AtomicInteger();
+        var client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            maxObserved.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+            return CompletableFuture.supplyAsync(() -> {
+                inFlight.decrementAndGet();
+                return PutObjectResponse.builder().build();
+            }, CompletableFuture.delayedExecutor(2, TimeUnit.MILLISECONDS));
+        });
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+
+        var result = new S3BatchWriter(transferService, 4).write(destination().build(), objects(50));
+
+        assertThat(result).isSucceeded();
+        assertThat(maxObserved.get()).isLessThanOrEqualTo(4);
+    }
+
+    @Test
+    void write_shouldPutObjectsWithChecksum() {
+        var client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenReturn(CompletableFuture.completedFuture(PutObjectResponse.builder().build()));
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+
+        var result = new S3BatchWriter(transferService, 4).write(destination().build(), objects(3));
+
+        assertThat(result).isSucceeded();
+        var captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(client, times(3)).putObject(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getAllValues()).allSatisfy(request -> assertThat(request.checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C));
+    }
+
+    @Test
+    void write_shouldPutArchiveWithChecksum() {
+        var client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> s3.putObject(i.getArgument(0), i.getArgument(1)));
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+
+        var result = new S3BatchWriter(transferService, 4).write(destination().property(OBJECT_NAME, "objects.tar").property(ARCHIVE_FORMAT, "tar").build(), objects(3));
+
+        assertThat(result).isSucceeded();
+        var captor = ArgumentCaptor.forClass(PutObjectRequest.class);
+        verify(client).putObject(captor.capture(), any(AsyncRequestBody.class));
+        assertThat(captor.getValue().checksumAlgorithm()).isEqualTo(ChecksumAlgorithm.CRC32_C);
+    }
+
+    @Test
+    void write_shouldReportFailedObjects() {
+        var client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            PutObjectRequest request = i.getArgument(0);
+            return request.key().equals("object-3")
+                    ? CompletableFuture.failedFuture(S3Exception.builder().message("SlowDown").statusCode(503).build())
+                    : CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+
+        var result = new S3BatchWriter(transferService, 4).write(destination().build(), objects(10));
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("object-3").contains("SlowDown");
+    }
+
+    @Test
+    void write_shouldReportObjects_whenPutObjectThrows() {
+        var client = mock(S3AsyncClient.class);
+        when(client.putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class))).thenAnswer(i -> {
+            PutObjectRequest request = i.getArgument(0);
+            if (request.key().equals("object-3")) {
+                throw new IllegalStateException("Client is closed");
+            }
+            return CompletableFuture.completedFuture(PutObjectResponse.builder().build());
+        });
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+
+        var result = new S3BatchWriter(transferService, 1).write(destination().build(), objects(10));
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("object-3").contains("Client is closed");
+        verify(client, times(10)).putObject(any(PutObjectRequest.class), any(AsyncRequestBody.class));
+    }
+
+    @Test
+    void write_shouldFail_whenArchiveFormatIsUnknown() {
+        var result = new S3BatchWriter(transferService, 8).write(destination().property(OBJECT_NAME, "objects.7z").property(ARCHIVE_FORMAT, "7z").build(), objects(3));
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("Unknown archive format '7z'");
+        assertThat(s3.objectCount()).isZero();
+    }
+
+    @Test
+    void write_shouldCompressObjects_whenCompressionIsConfigured() throws IOException {
+        var result = new S3BatchWriter(transferService, 8).write(destination().property(COMPRESSION, "gzip").build(), objects(3));
+
+        assertThat(result).isSucceeded();
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(s3.object("bucket", "object-1")))) {
+            assertThat(stream.readAllBytes()).isEqualTo("content-1".getBytes());
+        }
+    }
+
+    @Test
+    void write_shouldCompressArchive_whenCompressionIsConfigured() throws IOException {
+        var destination = destination().property(OBJECT_NAME, "objects.tar").property(ARCHIVE_FORMAT, "tar").property(COMPRESSION, "gzip").build();
+
+        var result = new S3BatchWriter(transferService, 8).write(destination, objects(3));
+
+        assertThat(result).isSucceeded();
+        try (var stream = new GZIPInputStream(new ByteArrayInputStream(s3.object("bucket", "objects.tar")))) {
+            assertThat(new String(stream.readAllBytes(), 0, 8)).isEqualTo("object-0");
+        }
+    }
+
+    @Test
+    void write_shouldFail_whenCompressionLevelIsInvalid() {
+        var result = new S3BatchWriter(transferService, 8).write(destination().property(COMPRESSION, "gzip").property(COMPRESSION_LEVEL, "10").build(), objects(3));
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("Invalid compression of destination");
+        assertThat(s3.objectCount()).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "tar", "zip" })
+    void write_shouldNotStoreArchive_whenObjectsFailPartway(String format) {
+        var objects = objects(5);
+        Iterator<S3BatchObject> failing = new Iterator<>() {
+            private int count;
+
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public S3BatchObject next() {
+                if (count++ == 3) {
+                    throw new IllegalStateException("Source failed");
+                }
+                return objects.next();
+            }
+        };
+
+        var result = new S3BatchWriter(transferService, 8).write(destination().property(OBJECT_NAME, "objects." + format).property(ARCHIVE_FORMAT, format).build(), failing);
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("Source failed");
+        assertThat(s3.objectCount()).isZero();
+    }
+
+    @Test
+    void write_shouldNotStoreArchive_whenTarEntryNameIsTooLong() {
+        var names = Stream.of("object-0", "folder/".repeat(60) + "object-1", "object-2")
+                .map(name -> new S3BatchObject(name, "content".getBytes()))
+                .iterator();
+
+        var result = new S3BatchWriter(transferService, 8).write(destination().property(OBJECT_NAME, "objects.tar").property(ARCHIVE_FORMAT, "tar").build(), names);
+
+        assertThat(result).isFailed().extracting(Failure::getFailureDetail).asString().contains("too long");
+        assertThat(s3.objectCount()).isZero();
+    }
+
+    @Test
+    void write_shouldPackObjectsIntoZipArchive() throws IOException {
+        var writer = new S3BatchWriter(transferService, 8);
+
+        var result = writer.write(destination().property(OBJECT_NAME, "objects.zip").property(ARCHIVE_FORMAT, "zip").build(), objects(20));
+
+        assertThat(result).isSucceeded();
+        assertThat(s3.objectCount()).isEqualTo(1);
+        var entries = new HashMap<String, String>();
+        try (var zip = new ZipInputStream(new ByteArrayInputStream(s3.object("bucket", "objects.zip")))) {
+            for (var entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+                entries.put(entry.getName(), new String(zip.readAllBytes()));
+            }
+        }
+        assertThat(entries).hasSize(20).containsEntry("object-7", "content-7");
+    }
+
+    @Test
+    void write_shouldPackObjectsIntoTarArchive() {
+        var writer = new S3BatchWriter(transferService, 8);
+
+        var result = writer.write(destination().property(OBJECT_NAME, "objects.tar").property(ARCHIVE_FORMAT, "tar").build(), objects(3));
+
+        assertThat(result).isSucceeded();
+        var archive = s3.object("bucket", "objects.tar");
+        assertThat(archive).hasSize(3 * 1024 + 1024);
+        assertThat(new String(archive, 0, 8)).isEqualTo("object-0");
+        assertThat(new String(archive, 512, 9)).isEqualTo("content-0");
+    }
+
+    private DataAddress.Builder destination() {
+        return DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "eu-west-1");
+    }
+
+    private Iterator<S3BatchObject> objects(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new S3BatchObject("object-" + i, ("content-" + i).getBytes()))
+                .iterator();
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Compresses 64 MiB of CSV records and 64 MiB of random bytes through the {@link CompressingRequestBody} with both
+ * codecs at several levels, and prints compression and decompression throughput next to the compression ratio. Only
+ * runs when the {@code EDC_AWS_S3_BENCHMARK} environment variable is {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "EDC_AWS_S3_BENCHMARK", matches = "true")
+class S3CompressionBenchmarkTest {
+
+    private static final int MIB = 1024 * 1024;
+    private static final int CONTENT_SIZE = 64 * MIB;
+    private static final byte[] CSV = csv();
+    private static final byte[] RANDOM = random();
+
+    private static Stream<Arguments> configurations() {
+        var codecs = Stream.of(
+                Arguments.of(S3CompressionCodec.GZIP, 1),
+                Arguments.of(S3CompressionCodec.GZIP, 6),
+                Arguments.of(S3CompressionCodec.GZIP, 9),
+                Arguments.of(S3CompressionCodec.ZSTD, 1),
+                Arguments.of(S3CompressionCodec.ZSTD, 3),
+                Arguments.of(S3CompressionCodec.ZSTD, 9),
+                Arguments.of(S3CompressionCodec.ZSTD, 19));
+        return codecs.flatMap(codec -> Stream.of(
+                Arguments.of("csv", codec.get()[0], codec.get()[1]),
+                Arguments.of("random", codec.get()[0], codec.get()[1])));
+    }
+
+    @ParameterizedTest(name = "{0}, {1} level {2}")
+    @MethodSource("configurations")
+    void compress(String data, S3CompressionCodec codec, int level) throws IOException {
+        var content = data.equals("csv") ? CSV : RANDOM;
+        var body = new CompressingRequestBody(AsyncRequestBody.fromBytes(content), codec, level, S3CompressionConfiguration.DEFAULT_CHUNK_SIZE,
+                2 * Runtime.getRuntime().availableProcessors(), ForkJoinPool.commonPool());
+
+        var start = System.nanoTime();
+        var compressed = InMemoryS3AsyncClient.collect(body).join();
+        var compressSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        byte[] decompressed;
+        try (var stream = codec.decompress(new ByteArrayInputStream(compressed))) {
+            decompressed = stream.readAllBytes();
+        }
+        var decompressSeconds = (System.nanoTime() - start) / 1e9;
+
+        assertThat(decompressed).isEqualTo(content);
+        System.out.printf("%-6s %-4s level %2d: ratio %6.2f, compress %8.1f MiB/s, decompress %8.1f MiB/s%n", data, codec.contentEncoding(), level,
+                (double) content.length / compressed.length, CONTENT_SIZE / (double) MIB / compressSeconds, CONTENT_SIZE / (double) MIB / decompressSeconds);
+    }
+
+    private static byte[] csv() {
+        var random = new Random(42);
+        var output = new ByteArrayOutputStream(CONTENT_SIZE + 1024);
+        var timestamp = Instant.parse("2026-01-01T00:00:00Z");
+        var id = 0L;
+        output.writeBytes("id,timestamp,vehicle,latitude,longitude,speed,status\n".getBytes(StandardCharsets.UTF_8));
+        while (output.size() < CONTENT_SIZE) {
+            timestamp = timestamp.plusMillis(random.nextInt(1000));
+            var line = String.format(Locale.ROOT, "%d,%s,WBA%08d,%.6f,%.6f,%.1f,%s\n", id++, timestamp, random.nextInt(5000), 48 + random.nextDouble(), 11 + random.nextDouble(),
+                    random.nextDouble() * 180, random.nextInt(10) == 0 ? "WARNING" : "OK");
+            output.writeBytes(line.getBytes(StandardCharsets.UTF_8));
+        }
+        var content = output.toByteArray();
+        return content.length == CONTENT_SIZE ? content : Arrays.copyOf(content, CONTENT_SIZE);
+    }
+
+    private static byte[] random() {
+        var content = new byte[CONTENT_SIZE];
+        new Random(42).nextBytes(content);
+        return content;
+    }
+}
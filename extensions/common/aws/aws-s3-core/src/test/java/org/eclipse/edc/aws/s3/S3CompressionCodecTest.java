@@ -0,0 +1,96 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class S3CompressionCodecTest {
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void decompress_shouldReadConcatenatedChunks(S3CompressionCodec codec) throws IOException {
+        var content = new byte[300_000];
+        new Random(1).nextBytes(content);
+        Arrays.fill(content, 100_000, 200_000, (byte) 'a');
+        var compressed = new ByteArrayOutputStream();
+        for (var offset = 0; offset < content.length; offset += 64 * 1024) {
+            var chunk = Arrays.copyOfRange(content, offset, Math.min(content.length, offset + 64 * 1024));
+            compressed.writeBytes(codec.compress(chunk, chunk.length, codec.defaultLevel()));
+        }
+
+        try (var stream = codec.decompress(new ByteArrayInputStream(compressed.toByteArray()))) {
+            assertThat(stream.readAllBytes()).isEqualTo(content);
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(S3CompressionCodec.class)
+    void compress_shouldOnlyCompressGivenLength(S3CompressionCodec codec) throws IOException {
+        var buffer = "contentpadding".getBytes();
+
+        var compressed = codec.compress(buffer, 7, codec.defaultLevel());
+
+        assertThat(codec.decompress(new ByteArrayInputStream(compressed)).readAllBytes()).isEqualTo("content".getBytes());
+    }
+
+    @Test
+    void decompress_shouldNotReadUntilStreamIsRead() {
+        var input = mock(InputStream.class);
+
+        S3CompressionCodec.GZIP.decompress(input);
+
+        verifyNoInteractions(input);
+    }
+
+    @Test
+    void level() {
+        assertThat(S3CompressionCodec.GZIP.level(null)).isEqualTo(6);
+        assertThat(S3CompressionCodec.GZIP.level("9")).isEqualTo(9);
+        assertThat(S3CompressionCodec.ZSTD.level(" 19 ")).isEqualTo(19);
+        assertThatThrownBy(() -> S3CompressionCodec.GZIP.level("10")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("from 0 to 9");
+        assertThatThrownBy(() -> S3CompressionCodec.ZSTD.level("fast")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("'fast'");
+    }
+
+    @Test
+    void fromValue() {
+        assertThat(S3CompressionCodec.fromValue(null)).isNull();
+        assertThat(S3CompressionCodec.fromValue("none")).isNull();
+        assertThat(S3CompressionCodec.fromValue("GZIP")).isEqualTo(S3CompressionCodec.GZIP);
+        assertThat(S3CompressionCodec.fromValue("zstd")).isEqualTo(S3CompressionCodec.ZSTD);
+        assertThatThrownBy(() -> S3CompressionCodec.fromValue("brotli")).isInstanceOf(IllegalArgumentException.class).hasMessageContaining("brotli");
+    }
+
+    @Test
+    void fromContentEncoding() {
+        assertThat(S3CompressionCodec.fromContentEncoding("gzip")).isEqualTo(S3CompressionCodec.GZIP);
+        assertThat(S3CompressionCodec.fromContentEncoding("zstd")).isEqualTo(S3CompressionCodec.ZSTD);
+        assertThat(S3CompressionCodec.fromContentEncoding("br")).isNull();
+        assertThat(S3CompressionCodec.fromContentEncoding(null)).isNull();
+    }
+}
@@ -0,0 +1,133 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.MultipartUploadCheckpointStore;
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.InstanceOfAssertFactories.type;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class S3CoreExtensionTest {
+
+    @BeforeEach
+    void setup(ServiceExtensionContext context) {
+        when(context.getMonitor()).thenReturn(mock(Monitor.class));
+        context.registerService(MultipartUploadCheckpointStore.class, mock());
+        context.registerService(Vault.class, mock());
+        context.registerService(TypeManager.class, mock());
+        context.registerService(S3TransferMetrics.class, S3TransferMetrics.NOOP);
+    }
+
+    @Test
+    void s3TransferService_shouldUseStandardBackendByDefault(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.empty());
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        var transferService = extension.s3TransferService(context);
+
+        assertThat(transferService).extracting("clientFactory", type(S3AsyncClientFactory.class))
+                .satisfies(clientFactory -> assertThat(clientFactory.configuration())
+                        .isEqualTo(S3TransferConfiguration.defaults()));
+        assertThat(transferService).extracting("checksumAlgorithm").isEqualTo(ChecksumAlgorithm.CRC32_C);
+    }
+
+    @Test
+    void s3TransferService_shouldDisableChecksums_whenConfiguredWithNone(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.aws.s3.transfer.checksum-algorithm", "none")));
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        var transferService = extension.s3TransferService(context);
+
+        assertThat(transferService).extracting("checksumAlgorithm").isNull();
+    }
+
+    @Test
+    void s3TransferService_shouldFail_whenChecksumAlgorithmIsUnknown(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.aws.s3.transfer.checksum-algorithm", "md5")));
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        assertThatThrownBy(() -> extension.s3TransferService(context)).isInstanceOf(EdcException.class);
+    }
+
+    @Test
+    void s3TransferService_shouldReportToRegisteredMetrics(ObjectFactory factory, ServiceExtensionContext context) {
+        var metrics = mock(S3TransferMetrics.class);
+        context.registerService(S3TransferMetrics.class, metrics);
+        when(context.getConfig()).thenReturn(ConfigFactory.empty());
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        var transferService = extension.s3TransferService(context);
+
+        assertThat(transferService).extracting("clientFactory").extracting("metrics").isSameAs(metrics);
+    }
+
+    @Test
+    void s3TransferService_shouldUseConfiguredCrtBackend(ObjectFactory factory, ServiceExtensionContext context) {
+        var config = ConfigFactory.fromMap(Map.of(
+                "edc.aws.s3.transfer.backend", "crt",
+                "edc.aws.s3.transfer.crt.target-throughput", "25.0",
+                "edc.aws.s3.transfer.crt.max-native-memory", "1073741824"
+        ));
+        when(context.getConfig()).thenReturn(config);
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        var transferService = extension.s3TransferService(context);
+
+        assertThat(transferService).extracting("clientFactory", type(S3AsyncClientFactory.class))
+                .satisfies(clientFactory -> {
+                    assertThat(clientFactory.configuration().backend()).isEqualTo(S3TransferBackend.CRT);
+                    assertThat(clientFactory.configuration().crtTargetThroughputGbps()).isEqualTo(25.0);
+                    assertThat(clientFactory.configuration().crtMaxNativeMemoryBytes()).isEqualTo(1073741824L);
+                });
+    }
+
+    @Test
+    void s3TransferService_shouldNotBuildStsClient_untilRoleIsAssumed(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.empty());
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        extension.s3TransferService(context);
+
+        assertThat(extension).extracting("stsClient").isNull();
+    }
+
+    @Test
+    void s3TransferService_shouldFail_whenBackendIsUnknown(ObjectFactory factory, ServiceExtensionContext context) {
+        var config = ConfigFactory.fromMap(Map.of("edc.aws.s3.transfer.backend", "unknown"));
+        when(context.getConfig()).thenReturn(config);
+        var extension = factory.constructInstance(S3CoreExtension.class);
+
+        assertThatThrownBy(() -> extension.s3TransferService(context)).isInstanceOf(EdcException.class);
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.ResponsePublisher;
+import software.amazon.awssdk.core.async.SdkPublisher;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class S3HttpStreamerTest {
+
+    private static final int CHUNK_SIZE = 64 * 1024;
+    private static final int OBJECT_CHUNKS = 4096;
+    private static final long SLOW_SINK_PAUSE_AFTER = 1024 * 1024;
+    private static final long MAX_BUFFERED = 32 * 1024 * 1024;
+    private static final long MAX_OUTSTANDING_DEMAND = 64;
+
+    private final S3TransferService transferService = mock();
+    private final S3HttpStreamer streamer = new S3HttpStreamer(transferService, HttpClient.newHttpClient());
+    private final AtomicReference<byte[]> receivedBody = new AtomicReference<>();
+    private final AtomicReference<String> receivedContentType = new AtomicReference<>();
+    private final AtomicReference<String> receivedContentEncoding = new AtomicReference<>();
+    private final AtomicLong slowSinkReceived = new AtomicLong();
+    private final CountDownLatch slowSinkPaused = new CountDownLatch(1);
+    private final CountDownLatch slowSinkResume = new CountDownLatch(1);
+    private HttpServer server;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/sink", exchange -> {
+            receivedContentType.set(exchange.getRequestHeaders().getFirst("Content-Type"));
+            receivedContentEncoding.set(exchange.getRequestHeaders().getFirst("Content-Encoding"));
+            receivedBody.set(exchange.getRequestBody().readAllBytes());
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.createContext("/slow-sink", exchange -> {
+            var buffer = new byte[64 * 1024];
+            try (var body = exchange.getRequestBody()) {
+                for (var read = body.read(buffer); read >= 0; read = body.read(buffer)) {
+                    if (slowSinkReceived.addAndGet(read) >= SLOW_SINK_PAUSE_AFTER && slowSinkPaused.getCount() > 0) {
+                        slowSinkPaused.countDown();
+                        slowSinkResume.await();
+                    }
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        slowSinkResume.countDown();
+        server.stop(0);
+    }
+
+    @Test
+    void stream_shouldSendObjectContentAndContentType() {
+        var content = new byte[3 * 1024 * 1024];
+        new Random(1).nextBytes(content);
+        var publisher = new ResponsePublisher<>(GetObjectResponse.builder().contentLength((long) content.length).contentType("text/csv").build(),
+                AsyncRequestBody.fromBytes(content));
+        when(transferService.<ResponsePublisher<GetObjectResponse>>read(any(), any())).thenReturn(CompletableFuture.completedFuture(publisher));
+
+        var response = streamer.stream(DataAddress.Builder.newInstance().type(TYPE).build(), HttpRequest.newBuilder(sinkUri()), "POST").join();
+
+        assertThat(response.statusCode()).isEqualTo(204);
+        assertThat(receivedBody.get()).isEqualTo(content);
+        assertThat(receivedContentType.get()).isEqualTo("text/csv");
+    }
+
+    @Test
+    void stream_shouldKeepContentTypeOfRequest() {
+        var publisher = new ResponsePublisher<>(GetObjectResponse.builder().contentLength(4L).contentType("text/csv").build(),
+                AsyncRequestBody.fromString("data"));
+        when(transferService.<ResponsePublisher<GetObjectResponse>>read(any(), any())).thenReturn(CompletableFuture.completedFuture(publisher));
+
+        streamer.stream(DataAddress.Builder.newInstance().type(TYPE).build(),
+                HttpRequest.newBuilder(sinkUri()).header("Content-Type", "application/octet-stream"), "PUT").join();
+
+        assertThat(receivedBody.get()).isEqualTo("data".getBytes());
+        assertThat(receivedContentType.get()).isEqualTo("application/octet-stream");
+    }
+
+    @Test
+    void stream_shouldSendCompressedObjectWithContentEncoding() {
+        var compressed = S3CompressionCodec.ZSTD.compress("data".getBytes(), 4, 3);
+        var publisher = new ResponsePublisher<>(GetObjectResponse.builder().contentLength((long) compressed.length).contentEncoding("zstd").build(),
+                AsyncRequestBody.fromBytes(compressed));
+        when(transferService.<ResponsePublisher<GetObjectResponse>>read(any(), any())).thenReturn(CompletableFuture.completedFuture(publisher));
+
+        streamer.stream(DataAddress.Builder.newInstance().type(TYPE).build(), HttpRequest.newBuilder(sinkUri()), "PUT").join();
+
+        assertThat(receivedBody.get()).isEqualTo(compressed);
+        assertThat(receivedContentEncoding.get()).isEqualTo("zstd");
+    }
+
+    @Test
+    void stream_shouldOnlyPullFromS3AsFastAsReceiverReads() throws InterruptedException {
+        var source = new DemandTrackingPublisher(OBJECT_CHUNKS);
+        var publisher = new ResponsePublisher<>(GetObjectResponse.builder().contentLength(OBJECT_CHUNKS * (long) CHUNK_SIZE).build(), source);
+        when(transferService.<ResponsePublisher<GetObjectResponse>>read(any(), any())).thenReturn(CompletableFuture.completedFuture(publisher));
+
+        var response = streamer.stream(DataAddress.Builder.newInstance().type(TYPE).build(),
+                HttpRequest.newBuilder(URI.create("http://localhost:%d/slow-sink".formatted(server.getAddress().getPort()))), "PUT");
+
+        assertThat(slowSinkPaused.await(30, TimeUnit.SECONDS)).isTrue();
+        Thread.sleep(500);
+        // the object is 256 MiB; while the receiver stalls only socket buffers and a few chunks may be ahead of it
+        assertThat(source.emittedBytes() - slowSinkReceived.get()).isLessThan(MAX_BUFFERED);
+        assertThat(source.maxOutstandingDemand()).isLessThanOrEqualTo(MAX_OUTSTANDING_DEMAND);
+
+        slowSinkResume.countDown();
+        assertThat(response).succeedsWithin(Duration.ofSeconds(60));
+        assertThat(slowSinkReceived.get()).isEqualTo(OBJECT_CHUNKS * (long) CHUNK_SIZE);
+        assertThat(source.maxOutstandingDemand()).isLessThanOrEqualTo(MAX_OUTSTANDING_DEMAND);
+    }
+
+    private URI sinkUri() {
+        return URI.create("http://localhost:%d/sink".formatted(server.getAddress().getPort()));
+    }
+
+    /**
+     * Emits chunks of an object only as they are requested and records how far the demand ran ahead of the chunks.
+     */
+    private static final class DemandTrackingPublisher implements SdkPublisher<ByteBuffer> {
+        private final int chunks;
+        private final AtomicLong emitted = new AtomicLong();
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicLong maxOutstandingDemand = new AtomicLong();
+        private final AtomicInteger draining = new AtomicInteger();
+        private final AtomicBoolean completed = new AtomicBoolean();
+
+        private DemandTrackingPublisher(int chunks) {
+            this.chunks = chunks;
+        }
+
+        long emittedBytes() {
+            return emitted.get() * CHUNK_SIZE;
+        }
+
+        long maxOutstandingDemand() {
+            return maxOutstandingDemand.get();
+        }
+
+        @Override
+        public void subscribe(Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    maxOutstandingDemand.accumulateAndGet(demand.addAndGet(n), Math::max);
+                    drain(subscriber);
+                }
+
+                @Override
+                public void cancel() {
+                    demand.set(0);
+                }
+            });
+        }
+
+        private void drain(Subscriber<? super ByteBuffer> subscriber) {
+            if (draining.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                while (demand.get() > 0 && emitted.get() < chunks) {
+                    demand.decrementAndGet();
+                    emitted.incrementAndGet();
+                    subscriber.onNext(ByteBuffer.allocate(CHUNK_SIZE));
+                }
+                if (emitted.get() == chunks && completed.compareAndSet(false, true)) {
+                    subscriber.onComplete();
+                }
+            } while (draining.decrementAndGet() != 0);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class S3PartSizesTest {
+
+    private static final long MIB = 1024 * 1024;
+    private static final long GIB = 1024 * MIB;
+
+    @Test
+    void forObjectSize_shouldUseMinimum_whenObjectFitsIntoMaxParts() {
+        assertThat(S3PartSizes.forObjectSize(0, 8 * MIB)).isEqualTo(8 * MIB);
+        assertThat(S3PartSizes.forObjectSize(10 * GIB, 8 * MIB)).isEqualTo(8 * MIB);
+        assertThat(S3PartSizes.forObjectSize(S3PartSizes.MAX_PARTS * 8 * MIB, 8 * MIB)).isEqualTo(8 * MIB);
+    }
+
+    @Test
+    void forObjectSize_shouldGrowToStayWithinMaxParts() {
+        var objectSize = 1024 * GIB;
+
+        var partSize = S3PartSizes.forObjectSize(objectSize, 8 * MIB);
+
+        assertThat(partSize).isEqualTo(105 * MIB);
+        assertThat((objectSize + partSize - 1) / partSize).isLessThanOrEqualTo(S3PartSizes.MAX_PARTS);
+    }
+
+    @Test
+    void forObjectSize_shouldFail_whenObjectExceedsMaximumUploadSize() {
+        assertThatThrownBy(() -> S3PartSizes.forObjectSize(S3PartSizes.MAX_PARTS * S3PartSizes.MAX_PART_SIZE + 1, 8 * MIB))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
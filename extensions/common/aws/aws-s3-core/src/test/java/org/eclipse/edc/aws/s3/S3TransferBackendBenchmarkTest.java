@@ -0,0 +1,98 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.AssumeRoleCredentialsCache;
+import org.eclipse.edc.aws.s3.spi.SecretAliasCredentialsCache;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.testcontainers.containers.localstack.LocalStackContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.sts.StsClient;
+
+import java.util.Optional;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ACCESS_KEY_ID;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ENDPOINT_OVERRIDE;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.SECRET_ACCESS_KEY;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Compares upload and download throughput of the {@link S3TransferBackend}s against LocalStack. Only runs when the
+ * {@code EDC_AWS_S3_BENCHMARK} environment variable is {@code true}; the object size in MiB can be set with
+ * {@code EDC_AWS_S3_BENCHMARK_SIZE_MB}.
+ */
+@Testcontainers
+@EnabledIfEnvironmentVariable(named = "EDC_AWS_S3_BENCHMARK", matches = "true")
+class S3TransferBackendBenchmarkTest {
+
+    private static final String BUCKET = "benchmark";
+    private static final int SIZE_MB = Optional.ofNullable(System.getenv("EDC_AWS_S3_BENCHMARK_SIZE_MB")).map(Integer::parseInt).orElse(512);
+
+    @Container
+    private static final LocalStackContainer LOCALSTACK = new LocalStackContainer(DockerImageName.parse("localstack/localstack:4.0"))
+            .withServices(LocalStackContainer.Service.S3);
+
+    @ParameterizedTest
+    @EnumSource(S3TransferBackend.class)
+    void throughput(S3TransferBackend backend) {
+        var configuration = new S3TransferConfiguration(backend, S3TransferConfiguration.DEFAULT_MINIMUM_PART_SIZE_BYTES,
+                S3TransferConfiguration.DEFAULT_MAX_CONCURRENCY, S3TransferConfiguration.DEFAULT_READ_BUFFER_SIZE_BYTES,
+                S3TransferConfiguration.DEFAULT_CRT_TARGET_THROUGHPUT_GBPS, 0);
+        var content = new byte[SIZE_MB * 1024 * 1024];
+        new Random(42).nextBytes(content);
+        var address = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, BUCKET)
+                .property(OBJECT_NAME, "object-" + backend.name().toLowerCase())
+                .property(REGION, LOCALSTACK.getRegion())
+                .property(ENDPOINT_OVERRIDE, LOCALSTACK.getEndpoint().toString())
+                .property(ACCESS_KEY_ID, LOCALSTACK.getAccessKey())
+                .property(SECRET_ACCESS_KEY, LOCALSTACK.getSecretKey())
+                .build();
+
+        var roleCredentials = new AssumeRoleCredentialsCache(mock(StsClient.class));
+        var aliasCredentials = new SecretAliasCredentialsCache(mock(Vault.class), mock(TypeManager.class));
+        try (var transferService = new S3TransferService(new S3AsyncClientFactory(configuration), roleCredentials, aliasCredentials, null)) {
+            transferService.client(address).createBucket(b -> b.bucket(BUCKET)).exceptionally(t -> null).join();
+
+            var uploadStart = System.nanoTime();
+            transferService.write(address, AsyncRequestBody.fromBytes(content)).join();
+            var uploadNanos = System.nanoTime() - uploadStart;
+
+            var downloadStart = System.nanoTime();
+            var downloaded = transferService.read(address, AsyncResponseTransformer.toBytes()).join();
+            var downloadNanos = System.nanoTime() - downloadStart;
+
+            assertThat(downloaded.asByteArray()).hasSize(content.length);
+            System.out.printf("%-8s upload %8.1f MiB/s, download %8.1f MiB/s (%d MiB)%n", backend,
+                    SIZE_MB / (uploadNanos / 1e9), SIZE_MB / (downloadNanos / 1e9), SIZE_MB);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.utils.BinaryUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class S3TransferMetricsInterceptorTest {
+
+    private static final byte[] CONTENT = "hello".getBytes(StandardCharsets.UTF_8);
+
+    private final S3TransferMetrics metrics = mock();
+    private final AtomicInteger puts = new AtomicInteger();
+    private HttpServer server;
+    private S3AsyncClient client;
+
+    @BeforeEach
+    void setup() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/bucket", this::handle);
+        server.start();
+        client = new S3AsyncClientFactory(S3TransferConfiguration.defaults(), metrics)
+                .create("us-east-1", "http://localhost:" + server.getAddress().getPort(), StaticCredentialsProvider.create(AwsBasicCredentials.create("key", "secret")));
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        server.stop(0);
+    }
+
+    @Test
+    void putObject_shouldRecordThrottlingRetryAndPayload() {
+        client.putObject(r -> r.bucket("bucket").key("object"), AsyncRequestBody.fromBytes(CONTENT)).join();
+
+        verify(metrics).throttled("PutObject");
+        verify(metrics).retried("PutObject");
+        verify(metrics).inFlightBytesChanged(CONTENT.length);
+        verify(metrics).inFlightBytesChanged(-CONTENT.length);
+        verify(metrics).requestCompleted(eq("PutObject"), eq((long) CONTENT.length), any());
+    }
+
+    @Test
+    void getObject_shouldReportRangedDownloadsSeparately() {
+        var bytes = client.getObject(r -> r.bucket("bucket").key("object").range("bytes=0-4"), AsyncResponseTransformer.toBytes()).join();
+
+        assertThat(bytes.asByteArray()).isEqualTo(CONTENT);
+        verify(metrics).requestCompleted(eq(S3TransferMetricsInterceptor.GET_OBJECT_RANGE), eq((long) CONTENT.length), any());
+        verify(metrics, never()).retried(any());
+    }
+
+    @Test
+    void getObject_shouldRecordStreamedDownload_whenBodyHasBeenRead() {
+        var response = client.getObject(r -> r.bucket("bucket").key("object"), AsyncResponseTransformer.toPublisher()).join();
+
+        verify(metrics, never()).requestCompleted(any(), anyLong(), any());
+
+        var body = new ByteArrayOutputStream();
+        response.subscribe(buffer -> body.writeBytes(BinaryUtils.copyAllBytesFrom(buffer))).join();
+
+        assertThat(body.toByteArray()).isEqualTo(CONTENT);
+        verify(metrics).requestCompleted(eq("GetObject"), eq((long) CONTENT.length), any());
+        verify(metrics).inFlightBytesChanged(-CONTENT.length);
+    }
+
+    @Test
+    void getObject_shouldNotCountStreamedDownloadAsInFlight_untilBodyIsSubscribed() {
+        var response = client.getObject(r -> r.bucket("bucket").key("object"), AsyncResponseTransformer.toPublisher()).join();
+
+        verify(metrics, never()).inFlightBytesChanged(anyLong());
+
+        response.subscribe(buffer -> { }).join();
+
+        verify(metrics).inFlightBytesChanged(CONTENT.length);
+        verify(metrics).inFlightBytesChanged(-CONTENT.length);
+    }
+
+    @Test
+    void request_shouldRecordTransfer_whenTransferIdIsSet() {
+        client.getObject(r -> r.bucket("bucket").key("object")
+                        .overrideConfiguration(override -> override.putExecutionAttribute(S3TransferMetricsInterceptor.TRANSFER_ID, "transfer-1")),
+                AsyncResponseTransformer.toBytes()).join();
+
+        verify(metrics).transferRequestCompleted(eq("transfer-1"), eq((long) CONTENT.length), any());
+    }
+
+    @Test
+    void getObject_shouldRecordFailure() {
+        assertThatThrownBy(() -> client.getObject(r -> r.bucket("bucket").key("missing"), AsyncResponseTransformer.toBytes()).join())
+                .hasCauseInstanceOf(NoSuchKeyException.class);
+
+        verify(metrics).requestFailed(eq("GetObject"), any());
+        verify(metrics, never()).requestCompleted(any(), anyLong(), any());
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        exchange.getRequestBody().readAllBytes();
+        if ("PUT".equals(exchange.getRequestMethod())) {
+            if (puts.getAndIncrement() == 0) {
+                respondWithError(exchange, 503, "SlowDown");
+            } else {
+                exchange.getResponseHeaders().add("ETag", "\"etag\"");
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } else if (exchange.getRequestURI().getPath().endsWith("/missing")) {
+            respondWithError(exchange, 404, "NoSuchKey");
+        } else {
+            exchange.getResponseHeaders().add("Content-Range", "bytes 0-4/5");
+            exchange.sendResponseHeaders(206, CONTENT.length);
+            exchange.getResponseBody().write(CONTENT);
+        }
+        exchange.close();
+    }
+
+    private void respondWithError(HttpExchange exchange, int status, String code) throws IOException {
+        var body = "<Error><Code>%s</Code><Message>%s</Message></Error>".formatted(code, code).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, body.length);
+        exchange.getResponseBody().write(body);
+    }
+}
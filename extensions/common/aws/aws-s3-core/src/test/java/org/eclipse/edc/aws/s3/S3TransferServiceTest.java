@@ -0,0 +1,221 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.aws.s3.spi.AssumeRoleCredentialsCache;
+import org.eclipse.edc.aws.s3.spi.SecretAliasCredentialsCache;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.ArgumentMatchers;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.ChecksumMode;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ACCESS_KEY_ID;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION_LEVEL;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ENDPOINT_OVERRIDE;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.FOLDER_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ROLE_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.SECRET_ACCESS_ALIAS_PREFIX;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.SECRET_ACCESS_KEY;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class S3TransferServiceTest {
+
+    private final S3AsyncClientFactory clientFactory = mock();
+    private final AssumeRoleCredentialsCache roleCredentials = mock();
+    private final SecretAliasCredentialsCache aliasCredentials = mock();
+    private final S3TransferService transferService = new S3TransferService(clientFactory, roleCredentials, aliasCredentials, ChecksumAlgorithm.CRC32_C);
+
+    @Test
+    void client_shouldBeSharedForSameRegionAndEndpoint() {
+        when(clientFactory.create(any(), any(), any())).thenAnswer(i -> mock(S3AsyncClient.class));
+
+        var first = transferService.client(address("objectA").build());
+        var second = transferService.client(address("objectB").build());
+        var withCredentials = transferService.client(address("objectC").property(ACCESS_KEY_ID, "accessKeyId").property(SECRET_ACCESS_KEY, "secret").build());
+        transferService.client(address("objectD").property(ENDPOINT_OVERRIDE, "http://localhost:9000").build());
+
+        assertThat(first).isSameAs(second);
+        assertThat(withCredentials).isInstanceOfSatisfying(CredentialsOverridingS3AsyncClient.class,
+                client -> assertThat(client.delegate()).isSameAs(first));
+        verify(clientFactory, times(1)).create(eq("eu-west-1"), isNull(), isA(DefaultCredentialsProvider.class));
+        verify(clientFactory, times(1)).create(eq("eu-west-1"), eq("http://localhost:9000"), isA(DefaultCredentialsProvider.class));
+    }
+
+    @Test
+    void client_shouldUseStaticCredentials_whenAccessKeyIsProvided() {
+        when(clientFactory.create(any(), any(), any())).thenAnswer(i -> mock(S3AsyncClient.class));
+
+        var client = transferService.client(address("object").property(ACCESS_KEY_ID, "accessKeyId").property(SECRET_ACCESS_KEY, "secret").build());
+
+        assertThat(client).isInstanceOfSatisfying(CredentialsOverridingS3AsyncClient.class,
+                it -> assertThat(it.credentialsProvider().resolveCredentials().accessKeyId()).isEqualTo("accessKeyId"));
+    }
+
+    @Test
+    void client_shouldUseAssumedRole_whenRoleNameIsProvided() {
+        var roleProvider = mock(AwsCredentialsProvider.class);
+        when(roleCredentials.credentialsProvider("arn:aws:iam::123456789012:role/test", null)).thenReturn(roleProvider);
+        when(clientFactory.create(any(), any(), any())).thenAnswer(i -> mock(S3AsyncClient.class));
+
+        var client = transferService.client(address("object").property(ROLE_NAME, "arn:aws:iam::123456789012:role/test").build());
+
+        assertThat(client).isInstanceOfSatisfying(CredentialsOverridingS3AsyncClient.class, it -> assertThat(it.credentialsProvider()).isSameAs(roleProvider));
+    }
+
+    @Test
+    void client_shouldUseAliasCredentials_whenKeyNameIsProvided() {
+        var aliasProvider = mock(AwsCredentialsProvider.class);
+        when(aliasCredentials.credentialsProvider(SECRET_ACCESS_ALIAS_PREFIX + "asset")).thenReturn(aliasProvider);
+        when(clientFactory.create(any(), any(), any())).thenAnswer(i -> mock(S3AsyncClient.class));
+
+        var client = transferService.client(address("object").keyName(SECRET_ACCESS_ALIAS_PREFIX + "asset").build());
+
+        assertThat(client).isInstanceOfSatisfying(CredentialsOverridingS3AsyncClient.class, it -> assertThat(it.credentialsProvider()).isSameAs(aliasProvider));
+    }
+
+    @Test
+    void close_shouldCloseSharedClients() {
+        var shared = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(shared);
+        transferService.client(address("object").property(ACCESS_KEY_ID, "accessKeyId").property(SECRET_ACCESS_KEY, "secret").build()).close();
+        verify(shared, times(0)).close();
+
+        transferService.close();
+
+        verify(shared).close();
+    }
+
+    @Test
+    void write_shouldPutObjectUnderFolderWithChecksum() {
+        var client = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+        var body = AsyncRequestBody.fromString("content");
+
+        transferService.write(address("object").property(FOLDER_NAME, "folder").build(), body);
+
+        verify(client).putObject(PutObjectRequest.builder().bucket("bucket").key("folder/object").checksumAlgorithm(ChecksumAlgorithm.CRC32_C).build(), body);
+    }
+
+    @Test
+    void write_shouldCompressBodyAndSetContentEncoding_whenCompressionIsConfigured() {
+        var client = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+        var body = AsyncRequestBody.fromString("content");
+
+        transferService.write(address("object").property(COMPRESSION, "zstd").property(COMPRESSION_LEVEL, "9").build(), body);
+
+        verify(client).putObject(eq(PutObjectRequest.builder().bucket("bucket").key("object").checksumAlgorithm(ChecksumAlgorithm.CRC32_C).contentEncoding("zstd").build()),
+                isA(CompressingRequestBody.class));
+    }
+
+    @Test
+    void write_shouldFail_whenCompressionIsInvalid() {
+        var result = transferService.write(address("object").property(COMPRESSION, "brotli").build(), AsyncRequestBody.fromString("content"));
+
+        assertThat(result).failsWithin(Duration.ZERO).withThrowableThat().withCauseInstanceOf(EdcException.class).withMessageContaining("brotli");
+        verifyNoInteractions(clientFactory);
+    }
+
+    @Test
+    void write_shouldFail_whenCompressionLevelIsOutOfRange() {
+        var result = transferService.write(address("object").property(COMPRESSION, "gzip").property(COMPRESSION_LEVEL, "10").build(),
+                AsyncRequestBody.fromString("content"));
+
+        assertThat(result).failsWithin(Duration.ZERO).withThrowableThat().withCauseInstanceOf(EdcException.class).withMessageContaining("from 0 to 9");
+        verifyNoInteractions(clientFactory);
+    }
+
+    @Test
+    void openStream_shouldDecompress_whenObjectHasContentEncoding() throws IOException {
+        var client = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+        var compressed = S3CompressionCodec.GZIP.compress("content".getBytes(), 7, 6);
+        var response = new ResponseInputStream<>(GetObjectResponse.builder().contentEncoding("gzip").build(), new ByteArrayInputStream(compressed));
+        when(client.getObject(any(GetObjectRequest.class), ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ResponseInputStream<GetObjectResponse>>>any()))
+                .thenReturn(CompletableFuture.completedFuture(response));
+
+        try (var stream = transferService.openStream(address("object").build()).join()) {
+            assertThat(stream.readAllBytes()).isEqualTo("content".getBytes());
+        }
+    }
+
+    @Test
+    void read_shouldRequestChecksumValidation() {
+        var client = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+        var transformer = AsyncResponseTransformer.toBytes();
+
+        transferService.read(address("object").build(), transformer);
+
+        verify(client).getObject(GetObjectRequest.builder().bucket("bucket").key("object").checksumMode(ChecksumMode.ENABLED).build(), transformer);
+    }
+
+    @Test
+    void readAndWrite_shouldAttributeRequestsToTransfer() {
+        var client = mock(S3AsyncClient.class);
+        when(clientFactory.create(any(), any(), any())).thenReturn(client);
+        var getObject = ArgumentCaptor.forClass(GetObjectRequest.class);
+        var putObject = ArgumentCaptor.forClass(PutObjectRequest.class);
+
+        transferService.read("transfer-id", address("object").build(), AsyncResponseTransformer.toBytes());
+        transferService.write("transfer-id", address("object").build(), AsyncRequestBody.fromString("content"));
+
+        verify(client).getObject(getObject.capture(), ArgumentMatchers.<AsyncResponseTransformer<GetObjectResponse, ?>>any());
+        verify(client).putObject(putObject.capture(), any(AsyncRequestBody.class));
+        assertThat(getObject.getValue().overrideConfiguration()).hasValueSatisfying(override ->
+                assertThat(override.executionAttributes().getAttribute(S3TransferMetricsInterceptor.TRANSFER_ID)).isEqualTo("transfer-id"));
+        assertThat(putObject.getValue().overrideConfiguration()).hasValueSatisfying(override ->
+                assertThat(override.executionAttributes().getAttribute(S3TransferMetricsInterceptor.TRANSFER_ID)).isEqualTo("transfer-id"));
+    }
+
+    private DataAddress.Builder address(String objectName) {
+        return DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "eu-west-1")
+                .property(OBJECT_NAME, objectName);
+    }
+}
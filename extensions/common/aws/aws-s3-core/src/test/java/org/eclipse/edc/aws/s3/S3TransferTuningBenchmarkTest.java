@@ -0,0 +1,97 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Uploads a 128 MiB file through the {@link ResumableMultipartUploader} with fixed and auto-tuned concurrency against
+ * a {@link SimulatedS3AsyncClient}, on an idle link, a congested link and an endpoint that throttles. Only runs when
+ * the {@code EDC_AWS_S3_BENCHMARK} environment variable is {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "EDC_AWS_S3_BENCHMARK", matches = "true")
+class S3TransferTuningBenchmarkTest {
+
+    private static final long MIB = 1024 * 1024;
+    private static final int FILE_SIZE = 128 * (int) MIB;
+    private static final long PART_SIZE = MIB;
+    private static final int MAX_CONCURRENCY = 32;
+    private static final Duration LATENCY = Duration.ofMillis(20);
+
+    private static Stream<Arguments> scenarios() {
+        var scenarios = Stream.of(
+                Arguments.of("idle link", 1024 * MIB, Integer.MAX_VALUE),
+                Arguments.of("congested link", 64 * MIB, Integer.MAX_VALUE),
+                Arguments.of("throttling endpoint", 1024 * MIB, 12));
+        return scenarios.flatMap(scenario -> Stream.of(
+                Arguments.of(scenario.get()[0], scenario.get()[1], scenario.get()[2], "fixed, 4 in flight", 4, false),
+                Arguments.of(scenario.get()[0], scenario.get()[1], scenario.get()[2], "fixed, 32 in flight", MAX_CONCURRENCY, false),
+                Arguments.of(scenario.get()[0], scenario.get()[1], scenario.get()[2], "auto-tuned", MAX_CONCURRENCY, true)));
+    }
+
+    @ParameterizedTest(name = "{0}, {3}")
+    @MethodSource("scenarios")
+    void upload(String scenario, long linkBytesPerSecond, int throttleAboveInFlight, String mode, int maxConcurrency, boolean autoTune,
+                @TempDir Path directory) throws IOException {
+        var content = new byte[FILE_SIZE];
+        new Random(42).nextBytes(content);
+        var file = Files.write(directory.resolve("content.bin"), content);
+        var s3 = new SimulatedS3AsyncClient(linkBytesPerSecond, 16 * MIB, LATENCY, throttleAboveInFlight);
+        var transferService = mock(S3TransferService.class);
+        when(transferService.client(any())).thenReturn(s3);
+        var uploader = new ResumableMultipartUploader(transferService, new FileSystemMultipartUploadCheckpointStore(directory.resolve("checkpoints")),
+                mock(Monitor.class), PART_SIZE, maxConcurrency, autoTune, null, ForkJoinPool.commonPool());
+        var destination = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "eu-west-1")
+                .property(OBJECT_NAME, "object")
+                .build();
+
+        var start = System.nanoTime();
+        var failure = uploader.upload("transfer", destination, file).handle((response, throwable) -> throwable).join();
+        var seconds = (System.nanoTime() - start) / 1e9;
+
+        // without a decreasing limit, parts may run out of attempts at a throttling endpoint
+        if (failure == null) {
+            assertThat(s3.object("bucket", "object")).hasSize(FILE_SIZE);
+        }
+        System.out.printf("%-20s %-20s %7.2f s, %8.1f MiB/s, %5d throttled%s%n", scenario, mode, seconds, FILE_SIZE / MIB / seconds, s3.throttled(),
+                failure == null ? "" : ", failed: " + failure.getMessage());
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3;
+
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An {@link InMemoryS3AsyncClient} whose part uploads behave like transfers over a network link. Every part pays
+ * a round trip latency and is transferred at no more than the bandwidth of a single connection, while all parts
+ * share the bandwidth of the link in the order they are sent. Parts sent while more than {@code throttleAboveInFlight}
+ * parts are in flight are answered with {@code 503 SlowDown} after the round trip.
+ */
+class SimulatedS3AsyncClient extends InMemoryS3AsyncClient {
+
+    private final long linkBytesPerSecond;
+    private final long connectionBytesPerSecond;
+    private final Duration latency;
+    private final int throttleAboveInFlight;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger throttled = new AtomicInteger();
+    private long linkFreeAt;
+
+    SimulatedS3AsyncClient(long linkBytesPerSecond, long connectionBytesPerSecond, Duration latency, int throttleAboveInFlight) {
+        this.linkBytesPerSecond = linkBytesPerSecond;
+        this.connectionBytesPerSecond = connectionBytesPerSecond;
+        this.latency = latency;
+        this.throttleAboveInFlight = throttleAboveInFlight;
+    }
+
+    int throttled() {
+        return throttled.get();
+    }
+
+    @Override
+    public CompletableFuture<UploadPartResponse> uploadPart(UploadPartRequest request, AsyncRequestBody body) {
+        if (inFlight.incrementAndGet() > throttleAboveInFlight) {
+            throttled.incrementAndGet();
+            return CompletableFuture.runAsync(inFlight::decrementAndGet, delay(latency.toNanos()))
+                    .thenCompose(v -> CompletableFuture.failedFuture(slowDown()));
+        }
+        var transferNanos = transferNanos(request.contentLength());
+        return super.uploadPart(request, body)
+                .thenApplyAsync(response -> response, delay(transferNanos))
+                .whenComplete((response, throwable) -> inFlight.decrementAndGet());
+    }
+
+    private synchronized long transferNanos(long bytes) {
+        var now = System.nanoTime();
+        linkFreeAt = Math.max(now, linkFreeAt) + bytes * 1_000_000_000L / linkBytesPerSecond;
+        var connectionDone = now + bytes * 1_000_000_000L / connectionBytesPerSecond;
+        return Math.max(linkFreeAt, connectionDone) - now + latency.toNanos();
+    }
+
+    private static Executor delay(long nanos) {
+        return CompletableFuture.delayedExecutor(nanos, TimeUnit.NANOSECONDS);
+    }
+}
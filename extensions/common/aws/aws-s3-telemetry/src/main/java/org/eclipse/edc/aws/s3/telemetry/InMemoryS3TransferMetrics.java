@@ -0,0 +1,154 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps S3 transfer measurements in memory, per operation. Counters are {@link LongAdder}s and latencies go into a
+ * {@link LatencyHistogram}, so recording from many I/O threads is cheap; {@link #snapshot()} reads them without
+ * resetting, and throughput is derived from two snapshots.
+ * <p>
+ * Requests that belong to a transfer are also summed up per transfer id. A transfer is dropped from the measurements
+ * once none of its requests completed for {@code transferRetention}. Idle transfers are evicted when a snapshot is
+ * taken and, at most once per {@code transferRetention}, when a transfer request is recorded, so the transfers are
+ * bounded even if snapshots are never taken.
+ */
+public class InMemoryS3TransferMetrics implements S3TransferMetrics {
+
+    public static final Duration DEFAULT_TRANSFER_RETENTION = Duration.ofMinutes(10);
+
+    private final Map<String, OperationMetrics> operations = new ConcurrentHashMap<>();
+    private final Map<String, TransferMetrics> transfers = new ConcurrentHashMap<>();
+    private final AtomicLong inFlightBytes = new AtomicLong();
+    private final Clock clock;
+    private final Duration transferRetention;
+    private volatile Instant nextEviction = Instant.MIN;
+
+    public InMemoryS3TransferMetrics() {
+        this(Clock.systemUTC());
+    }
+
+    public InMemoryS3TransferMetrics(Clock clock) {
+        this(clock, DEFAULT_TRANSFER_RETENTION);
+    }
+
+    public InMemoryS3TransferMetrics(Clock clock, Duration transferRetention) {
+        this.clock = clock;
+        this.transferRetention = transferRetention;
+    }
+
+    @Override
+    public void requestCompleted(String operation, long bytes, Duration latency) {
+        var metrics = operation(operation);
+        metrics.requests.increment();
+        metrics.bytes.add(bytes);
+        metrics.latency.record(latency);
+    }
+
+    @Override
+    public void transferRequestCompleted(String transferId, long bytes, Duration latency) {
+        var now = clock.instant();
+        transfers.computeIfAbsent(transferId, id -> new TransferMetrics()).record(bytes, now.minus(latency), now);
+        if (!now.isBefore(nextEviction)) {
+            nextEviction = now.plus(transferRetention);
+            evictIdleTransfers(now);
+        }
+    }
+
+    @Override
+    public void requestFailed(String operation, Duration latency) {
+        var metrics = operation(operation);
+        metrics.failures.increment();
+        metrics.latency.record(latency);
+    }
+
+    @Override
+    public void retried(String operation) {
+        operation(operation).retries.increment();
+    }
+
+    @Override
+    public void throttled(String operation) {
+        operation(operation).throttles.increment();
+    }
+
+    @Override
+    public void inFlightBytesChanged(long delta) {
+        inFlightBytes.addAndGet(delta);
+    }
+
+    public S3TransferMetricsSnapshot snapshot() {
+        var now = clock.instant();
+        var snapshots = operations.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+        evictIdleTransfers(now);
+        var transferSnapshots = transfers.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().snapshot()));
+        return new S3TransferMetricsSnapshot(now, snapshots, transferSnapshots, inFlightBytes.get());
+    }
+
+    private void evictIdleTransfers(Instant now) {
+        transfers.values().removeIf(transfer -> transfer.isIdleSince(now.minus(transferRetention)));
+    }
+
+    private OperationMetrics operation(String operation) {
+        return operations.computeIfAbsent(operation, o -> new OperationMetrics());
+    }
+
+    private static class OperationMetrics {
+        private final LongAdder requests = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder bytes = new LongAdder();
+        private final LongAdder retries = new LongAdder();
+        private final LongAdder throttles = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        S3TransferMetricsSnapshot.Operation snapshot() {
+            return new S3TransferMetricsSnapshot.Operation(requests.sum(), failures.sum(), bytes.sum(), retries.sum(), throttles.sum(), latency.snapshot());
+        }
+    }
+
+    private static class TransferMetrics {
+        private long requests;
+        private long bytes;
+        private Instant started;
+        private Instant lastCompleted;
+
+        synchronized void record(long bytes, Instant start, Instant completed) {
+            requests++;
+            this.bytes += bytes;
+            started = started == null || start.isBefore(started) ? start : started;
+            lastCompleted = lastCompleted == null || completed.isAfter(lastCompleted) ? completed : lastCompleted;
+        }
+
+        synchronized boolean isIdleSince(Instant instant) {
+            return lastCompleted.isBefore(instant);
+        }
+
+        synchronized S3TransferMetricsSnapshot.Transfer snapshot() {
+            return new S3TransferMetricsSnapshot.Transfer(requests, bytes, started, lastCompleted);
+        }
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A latency histogram with fixed, roughly logarithmic buckets from 1 ms to 60 s. Recording is a bucket lookup and a
+ * {@link LongAdder} increment, so concurrent I/O threads do not contend on a shared counter.
+ */
+public class LatencyHistogram {
+
+    static final long[] BUCKET_UPPER_BOUNDS_MILLIS = { 1, 2, 5, 10, 25, 50, 100, 250, 500, 1_000, 2_500, 5_000, 10_000, 30_000, 60_000 };
+
+    private final LongAdder[] counts = new LongAdder[BUCKET_UPPER_BOUNDS_MILLIS.length + 1];
+
+    public LatencyHistogram() {
+        Arrays.setAll(counts, i -> new LongAdder());
+    }
+
+    public void record(Duration latency) {
+        var index = Arrays.binarySearch(BUCKET_UPPER_BOUNDS_MILLIS, latency.toMillis());
+        counts[index >= 0 ? index : -index - 1].increment();
+    }
+
+    public Snapshot snapshot() {
+        return new Snapshot(Arrays.stream(counts).mapToLong(LongAdder::sum).toArray());
+    }
+
+    /**
+     * The bucket counts at one point in time. The last bucket holds all latencies above the last bound.
+     */
+    public record Snapshot(long[] counts) {
+
+        public long count() {
+            return Arrays.stream(counts).sum();
+        }
+
+        /**
+         * Returns the upper bound of the bucket the given percentile falls into.
+         *
+         * @param percentile the percentile, between 0 and 100
+         * @return the upper bound, {@link Duration#ZERO} if nothing was recorded, or a duration above the last bound
+         *         if the percentile falls into the overflow bucket
+         */
+        public Duration percentile(double percentile) {
+            var total = count();
+            if (total == 0) {
+                return Duration.ZERO;
+            }
+            var rank = (long) Math.ceil(total * percentile / 100);
+            var seen = 0L;
+            for (var i = 0; i < BUCKET_UPPER_BOUNDS_MILLIS.length; i++) {
+                seen += counts[i];
+                if (seen >= rank) {
+                    return Duration.ofMillis(BUCKET_UPPER_BOUNDS_MILLIS[i]);
+                }
+            }
+            return Duration.ofMillis(BUCKET_UPPER_BOUNDS_MILLIS[BUCKET_UPPER_BOUNDS_MILLIS.length - 1] + 1);
+        }
+    }
+}
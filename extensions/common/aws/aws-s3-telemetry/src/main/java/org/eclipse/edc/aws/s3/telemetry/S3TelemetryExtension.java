@@ -0,0 +1,110 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import org.eclipse.edc.aws.s3.spi.S3TransferMetrics;
+import org.eclipse.edc.runtime.metamodel.annotation.Extension;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtension;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Records the requests of S3 transfers in an {@link InMemoryS3TransferMetrics}, which replaces the no-op
+ * {@link S3TransferMetrics} of the aws-s3-core extension, and periodically writes a summary to the {@link Monitor}.
+ */
+@Extension(value = S3TelemetryExtension.NAME)
+public class S3TelemetryExtension implements ServiceExtension {
+    public static final String NAME = "AWS S3 Telemetry";
+
+    @Setting(key = "edc.aws.s3.telemetry.report-interval",
+            description = "The interval in seconds at which a summary of the S3 transfer metrics is logged, 0 to disable the summary",
+            defaultValue = "60")
+    private long reportInterval;
+
+    private final InMemoryS3TransferMetrics metrics = new InMemoryS3TransferMetrics();
+    private Monitor monitor;
+    private ScheduledExecutorService reporter;
+    private S3TransferMetricsSnapshot lastReported;
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    @Override
+    public void initialize(ServiceExtensionContext context) {
+        monitor = context.getMonitor();
+    }
+
+    @Provider
+    public S3TransferMetrics s3TransferMetrics() {
+        return metrics;
+    }
+
+    @Provider
+    public InMemoryS3TransferMetrics inMemoryS3TransferMetrics() {
+        return metrics;
+    }
+
+    @Override
+    public void start() {
+        if (reportInterval > 0) {
+            lastReported = metrics.snapshot();
+            reporter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                var thread = new Thread(runnable, "aws-s3-telemetry-reporter");
+                thread.setDaemon(true);
+                return thread;
+            });
+            reporter.scheduleAtFixedRate(this::report, reportInterval, reportInterval, TimeUnit.SECONDS);
+        }
+    }
+
+    @Override
+    public void shutdown() {
+        if (reporter != null) {
+            reporter.shutdownNow();
+        }
+    }
+
+    void report() {
+        var snapshot = metrics.snapshot();
+        var summary = summary(snapshot, lastReported);
+        lastReported = snapshot;
+        monitor.info(summary);
+    }
+
+    static String summary(S3TransferMetricsSnapshot snapshot, @Nullable S3TransferMetricsSnapshot previous) {
+        var operations = new TreeMap<>(snapshot.operations()).entrySet().stream()
+                .map(entry -> operationSummary(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining("; "));
+        return String.format(Locale.ROOT, "S3 transfers: %.1f MiB/s, %d bytes in flight%s", snapshot.bytesPerSecond(previous) / (1024 * 1024), snapshot.inFlightBytes(),
+                operations.isEmpty() ? "" : "; " + operations);
+    }
+
+    private static String operationSummary(String name, S3TransferMetricsSnapshot.Operation operation) {
+        return "%s: %d ok, %d failed, p50 <= %d ms, p99 <= %d ms, %d retries, %d throttled".formatted(name, operation.requests(), operation.failures(),
+                operation.latency().percentile(50).toMillis(), operation.latency().percentile(99).toMillis(), operation.retries(), operation.throttles());
+    }
+}
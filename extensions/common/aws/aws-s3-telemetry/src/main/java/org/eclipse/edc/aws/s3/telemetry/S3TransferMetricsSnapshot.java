@@ -0,0 +1,90 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * The S3 transfer measurements at one point in time. All counters are totals since startup.
+ *
+ * @param timestamp     the time the snapshot was taken
+ * @param operations    the measurements per operation name
+ * @param transfers     the measurements per transfer id, for requests that belong to a transfer
+ * @param inFlightBytes the payload bytes of the requests in progress
+ */
+public record S3TransferMetricsSnapshot(Instant timestamp, Map<String, Operation> operations, Map<String, Transfer> transfers, long inFlightBytes) {
+
+    public long bytes() {
+        return operations.values().stream().mapToLong(Operation::bytes).sum();
+    }
+
+    /**
+     * Returns the throughput of completed requests since an earlier snapshot.
+     *
+     * @param previous the earlier snapshot, or null to compute nothing
+     * @return the bytes per second, 0 if there is no earlier snapshot or no time passed
+     */
+    public double bytesPerSecond(@Nullable S3TransferMetricsSnapshot previous) {
+        if (previous == null) {
+            return 0;
+        }
+        var elapsed = Duration.between(previous.timestamp(), timestamp);
+        if (elapsed.isZero() || elapsed.isNegative()) {
+            return 0;
+        }
+        return (bytes() - previous.bytes()) * 1_000_000_000d / elapsed.toNanos();
+    }
+
+    /**
+     * The measurements of one operation.
+     *
+     * @param requests  the number of successful requests
+     * @param failures  the number of requests that failed after all retries
+     * @param bytes     the payload bytes of the successful requests
+     * @param retries   the number of retried attempts
+     * @param throttles the number of attempts answered with {@code 503 SlowDown}
+     * @param latency   the latencies of successful and failed requests
+     */
+    public record Operation(long requests, long failures, long bytes, long retries, long throttles, LatencyHistogram.Snapshot latency) {
+    }
+
+    /**
+     * The measurements of one transfer.
+     *
+     * @param requests      the number of successful requests of the transfer
+     * @param bytes         the payload bytes of the successful requests
+     * @param started       the start of the earliest successful request
+     * @param lastCompleted the completion of the latest successful request
+     */
+    public record Transfer(long requests, long bytes, Instant started, Instant lastCompleted) {
+
+        /**
+         * Returns the throughput of the transfer from the start of its first to the completion of its last request.
+         *
+         * @return the bytes per second, 0 if no time passed
+         */
+        public double bytesPerSecond() {
+            var elapsed = Duration.between(started, lastCompleted);
+            if (elapsed.isZero() || elapsed.isNegative()) {
+                return 0;
+            }
+            return bytes * 1_000_000_000d / elapsed.toNanos();
+        }
+    }
+}
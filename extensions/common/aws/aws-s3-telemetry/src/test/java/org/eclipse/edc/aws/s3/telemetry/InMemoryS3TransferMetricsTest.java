@@ -0,0 +1,123 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class InMemoryS3TransferMetricsTest {
+
+    private final Clock clock = mock();
+    private final InMemoryS3TransferMetrics metrics = new InMemoryS3TransferMetrics(clock);
+
+    @Test
+    void snapshot_shouldAggregatePerOperation() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        IntStream.range(0, 99).parallel().forEach(i -> metrics.requestCompleted("UploadPart", 1024, Duration.ofMillis(20)));
+        metrics.requestCompleted("UploadPart", 1024, Duration.ofSeconds(3));
+        metrics.requestFailed("UploadPart", Duration.ofMillis(1));
+        metrics.retried("UploadPart");
+        metrics.throttled("UploadPart");
+        metrics.requestCompleted("GetObjectRange", 10, Duration.ofMillis(1));
+
+        var snapshot = metrics.snapshot();
+
+        assertThat(snapshot.operations()).containsOnlyKeys("UploadPart", "GetObjectRange");
+        var upload = snapshot.operations().get("UploadPart");
+        assertThat(upload.requests()).isEqualTo(100);
+        assertThat(upload.failures()).isEqualTo(1);
+        assertThat(upload.bytes()).isEqualTo(100 * 1024);
+        assertThat(upload.retries()).isEqualTo(1);
+        assertThat(upload.throttles()).isEqualTo(1);
+        assertThat(upload.latency().count()).isEqualTo(101);
+        assertThat(upload.latency().percentile(50)).isEqualTo(Duration.ofMillis(25));
+        assertThat(upload.latency().percentile(100)).isEqualTo(Duration.ofMillis(5_000));
+        assertThat(snapshot.bytes()).isEqualTo(100 * 1024 + 10);
+    }
+
+    @Test
+    void snapshot_shouldTrackInFlightBytes() {
+        when(clock.instant()).thenReturn(Instant.EPOCH);
+        metrics.inFlightBytesChanged(100);
+        metrics.inFlightBytesChanged(50);
+        metrics.inFlightBytesChanged(-100);
+
+        assertThat(metrics.snapshot().inFlightBytes()).isEqualTo(50);
+    }
+
+    @Test
+    void bytesPerSecond_shouldUseBytesCompletedBetweenSnapshots() {
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plusSeconds(2));
+        metrics.requestCompleted("PutObject", 1_000, Duration.ofMillis(5));
+        var first = metrics.snapshot();
+        metrics.requestCompleted("PutObject", 4_000, Duration.ofMillis(5));
+
+        var second = metrics.snapshot();
+
+        assertThat(second.bytesPerSecond(first)).isEqualTo(2_000);
+        assertThat(second.bytesPerSecond(null)).isZero();
+    }
+
+    @Test
+    void snapshot_shouldAggregatePerTransfer() {
+        when(clock.instant()).thenReturn(Instant.EPOCH.plusSeconds(1), Instant.EPOCH.plusSeconds(4), Instant.EPOCH.plusSeconds(4));
+        metrics.transferRequestCompleted("transfer-1", 1_000, Duration.ofSeconds(1));
+        metrics.transferRequestCompleted("transfer-1", 3_000, Duration.ofSeconds(2));
+
+        var transfer = metrics.snapshot().transfers().get("transfer-1");
+
+        assertThat(transfer.requests()).isEqualTo(2);
+        assertThat(transfer.bytes()).isEqualTo(4_000);
+        assertThat(transfer.started()).isEqualTo(Instant.EPOCH);
+        assertThat(transfer.bytesPerSecond()).isEqualTo(1_000);
+    }
+
+    @Test
+    void snapshot_shouldDropIdleTransfers() {
+        var expiringMetrics = new InMemoryS3TransferMetrics(clock, Duration.ofMinutes(10));
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plus(Duration.ofMinutes(11)));
+        expiringMetrics.transferRequestCompleted("transfer-1", 1_000, Duration.ofSeconds(1));
+
+        assertThat(expiringMetrics.snapshot().transfers()).isEmpty();
+    }
+
+    @Test
+    void transferRequestCompleted_shouldDropIdleTransfers_withoutSnapshots() {
+        var expiringMetrics = new InMemoryS3TransferMetrics(clock, Duration.ofMinutes(10));
+        // the snapshot is taken at a time transfer-1 is not idle yet, so only recording transfer-2 can have dropped it
+        when(clock.instant()).thenReturn(Instant.EPOCH, Instant.EPOCH.plus(Duration.ofMinutes(11)), Instant.EPOCH.plus(Duration.ofMinutes(1)));
+        expiringMetrics.transferRequestCompleted("transfer-1", 1_000, Duration.ofSeconds(1));
+        expiringMetrics.transferRequestCompleted("transfer-2", 1_000, Duration.ofSeconds(1));
+
+        assertThat(expiringMetrics.snapshot().transfers()).containsOnlyKeys("transfer-2");
+    }
+
+    @Test
+    void latencyHistogram_shouldPlaceLatenciesAboveLastBoundInOverflowBucket() {
+        var histogram = new LatencyHistogram();
+        histogram.record(Duration.ofMinutes(5));
+
+        assertThat(histogram.snapshot().percentile(50)).isGreaterThan(Duration.ofSeconds(60));
+        assertThat(new LatencyHistogram().snapshot().percentile(50)).isEqualTo(Duration.ZERO);
+    }
+}
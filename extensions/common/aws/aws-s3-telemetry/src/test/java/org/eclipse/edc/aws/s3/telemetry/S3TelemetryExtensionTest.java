@@ -0,0 +1,71 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.telemetry;
+
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(DependencyInjectionExtension.class)
+class S3TelemetryExtensionTest {
+
+    @Test
+    void s3TransferMetrics_shouldProvideInMemoryMetrics(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.empty());
+        var extension = factory.constructInstance(S3TelemetryExtension.class);
+
+        assertThat(extension.s3TransferMetrics()).isSameAs(extension.inMemoryS3TransferMetrics());
+    }
+
+    @Test
+    void report_shouldLogSummary(ObjectFactory factory, ServiceExtensionContext context) {
+        var monitor = mock(Monitor.class);
+        when(context.getMonitor()).thenReturn(monitor);
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.aws.s3.telemetry.report-interval", "0")));
+        var extension = factory.constructInstance(S3TelemetryExtension.class);
+        extension.initialize(context);
+        extension.start();
+        extension.s3TransferMetrics().requestCompleted("UploadPart", 1024, Duration.ofMillis(40));
+
+        extension.report();
+
+        verify(monitor).info(argThat((String message) -> message.contains("UploadPart: 1 ok, 0 failed, p50 <= 50 ms")));
+    }
+
+    @Test
+    void summary_shouldComputeThroughputFromPreviousSnapshot() {
+        var previous = new S3TransferMetricsSnapshot(Instant.EPOCH, Map.of(), Map.of(), 0);
+        var operation = new S3TransferMetricsSnapshot.Operation(1, 0, 2 * 1024 * 1024, 0, 0, new LatencyHistogram().snapshot());
+        var snapshot = new S3TransferMetricsSnapshot(Instant.EPOCH.plusSeconds(1), Map.of("PutObject", operation), Map.of(), 512);
+
+        var summary = S3TelemetryExtension.summary(snapshot, previous);
+
+        assertThat(summary).startsWith("S3 transfers: 2.0 MiB/s, 512 bytes in flight; PutObject: 1 ok");
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.validator;
+
+import org.eclipse.edc.aws.s3.spi.S3BucketProbe;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+import software.amazon.awssdk.regions.Region;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ACCESS_KEY_ID;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ENDPOINT_OVERRIDE;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ROLE_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.SECRET_ACCESS_KEY;
+import static org.eclipse.edc.validator.spi.Violation.violation;
+
+/**
+ * Validates large collections of {@code AmazonS3} DataAddresses, e.g. during a catalog import.
+ * <p>
+ * {@link #validate(List)} runs the wrapped validator on a {@link ForkJoinPool} and returns one result per address, in
+ * the order of the input. {@link #validateDeep(List)} additionally checks the bucket name against the S3 naming rules,
+ * the region against the regions known to the AWS SDK and, if a {@link S3BucketProbe} is configured, whether the
+ * bucket is reachable. Reachability is probed once per distinct bucket and credentials of the collection, with at most
+ * {@code maxConcurrentProbes} probes in flight. Definitive outcomes, i.e. a reachable bucket or a {@code 301},
+ * {@code 403} or {@code 404} answer, are cached for {@code probeCacheTtl}; other failures such as timeouts or server
+ * errors are probed again by the next validation. Expired outcomes are evicted whenever buckets are probed.
+ */
+public class S3BulkDataAddressValidator {
+
+    private static final Pattern BUCKET_NAME_PATTERN = Pattern.compile("^[a-z0-9][a-z0-9.-]{1,61}[a-z0-9]$");
+    private static final Pattern IP_ADDRESS_PATTERN = Pattern.compile("^\\d{1,3}(\\.\\d{1,3}){3}$");
+    private static final List<String> RESERVED_PREFIXES = List.of("xn--", "sthree-", "amzn-s3-demo-");
+    private static final List<String> RESERVED_SUFFIXES = List.of("-s3alias", "--ol-s3", ".mrap", "--x-s3");
+    private static final Set<Region> KNOWN_REGIONS = Set.copyOf(Region.regions());
+    private static final Set<Integer> DEFINITIVE_STATUS_CODES = Set.of(301, 403, 404);
+
+    private final Map<BucketKey, CachedProbe> probes = new ConcurrentHashMap<>();
+    private Validator<DataAddress> validator;
+    private ForkJoinPool pool = ForkJoinPool.commonPool();
+    private S3BucketProbe bucketProbe;
+    private int maxConcurrentProbes = 16;
+    private Duration probeCacheTtl = Duration.ofMinutes(5);
+    private Clock clock = Clock.systemUTC();
+
+    private S3BulkDataAddressValidator() {
+    }
+
+    /**
+     * Validates all addresses in parallel with the wrapped validator.
+     *
+     * @param addresses the addresses to validate
+     * @return the result of every address, in the order of the input
+     */
+    public List<ValidationResult> validate(List<DataAddress> addresses) {
+        return pool.submit(() -> addresses.parallelStream().map(validator::validate).toList()).join();
+    }
+
+    /**
+     * Validates all addresses like {@link #validate(List)} and runs the deeper checks on the addresses that passed.
+     *
+     * @param addresses the addresses to validate
+     * @return the result of every address, in the order of the input
+     */
+    public CompletableFuture<List<ValidationResult>> validateDeep(List<DataAddress> addresses) {
+        var results = validate(addresses);
+        var violations = pool.submit(() -> IntStream.range(0, addresses.size()).parallel()
+                        .mapToObj(i -> results.get(i).succeeded() ? staticViolations(addresses.get(i)) : List.<Violation>of())
+                        .toList())
+                .join();
+
+        var reachability = probeBuckets(IntStream.range(0, addresses.size())
+                .filter(i -> results.get(i).succeeded() && violations.get(i).isEmpty())
+                .mapToObj(addresses::get)
+                .toList());
+
+        return reachability.thenApply(unreachable -> IntStream.range(0, addresses.size())
+                .mapToObj(i -> {
+                    if (results.get(i).failed()) {
+                        return results.get(i);
+                    }
+                    var itemViolations = new ArrayList<>(violations.get(i));
+                    var reason = unreachable.get(BucketKey.of(addresses.get(i)));
+                    if (reason != null) {
+                        itemViolations.add(violation("Bucket is not reachable: " + reason, BUCKET_NAME, addresses.get(i).getStringProperty(BUCKET_NAME)));
+                    }
+                    return itemViolations.isEmpty() ? ValidationResult.success() : ValidationResult.failure(itemViolations);
+                })
+                .toList());
+    }
+
+    private List<Violation> staticViolations(DataAddress address) {
+        var violations = new ArrayList<Violation>();
+        var bucketName = address.getStringProperty(BUCKET_NAME);
+        if (!isValidBucketName(bucketName)) {
+            violations.add(violation("'%s' does not follow the S3 bucket naming rules".formatted(BUCKET_NAME), BUCKET_NAME, bucketName));
+        }
+        var region = address.getStringProperty(REGION);
+        if (region != null && address.getStringProperty(ENDPOINT_OVERRIDE) == null && !KNOWN_REGIONS.contains(Region.of(region))) {
+            violations.add(violation("'%s' is not a known AWS region".formatted(REGION), REGION, region));
+        }
+        return violations;
+    }
+
+    private boolean isValidBucketName(@Nullable String name) {
+        return name != null &&
+                BUCKET_NAME_PATTERN.matcher(name).matches() &&
+                !name.contains("..") &&
+                !IP_ADDRESS_PATTERN.matcher(name).matches() &&
+                RESERVED_PREFIXES.stream().noneMatch(name::startsWith) &&
+                RESERVED_SUFFIXES.stream().noneMatch(name::endsWith);
+    }
+
+    private CompletableFuture<Map<BucketKey, String>> probeBuckets(List<DataAddress> addresses) {
+        if (bucketProbe == null || addresses.isEmpty()) {
+            return CompletableFuture.completedFuture(Map.of());
+        }
+
+        var now = clock.instant();
+        probes.values().removeIf(probe -> !probe.expiresAt().isAfter(now));
+
+        var distinct = new LinkedHashMap<BucketKey, DataAddress>();
+        addresses.forEach(address -> distinct.putIfAbsent(BucketKey.of(address), address));
+        var pending = new ConcurrentLinkedQueue<>(distinct.entrySet());
+        var unreachable = new ConcurrentHashMap<BucketKey, String>();
+
+        var workers = IntStream.range(0, Math.min(maxConcurrentProbes, pending.size()))
+                .mapToObj(i -> probeNext(pending, unreachable))
+                .toArray(CompletableFuture[]::new);
+        return CompletableFuture.allOf(workers).thenApply(v -> unreachable);
+    }
+
+    private CompletableFuture<Void> probeNext(Queue<Map.Entry<BucketKey, DataAddress>> pending, Map<BucketKey, String> unreachable) {
+        var next = pending.poll();
+        if (next == null) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return probe(next.getKey(), next.getValue())
+                .thenAccept(reason -> {
+                    if (reason != null) {
+                        unreachable.put(next.getKey(), reason);
+                    }
+                })
+                .thenCompose(v -> probeNext(pending, unreachable));
+    }
+
+    private CompletableFuture<String> probe(BucketKey key, DataAddress address) {
+        var now = clock.instant();
+        var probe = probes.compute(key, (k, cached) -> cached != null && cached.expiresAt().isAfter(now)
+                ? cached
+                : new CachedProbe(headBucket(address), now.plus(probeCacheTtl)));
+        return probe.result().handle((v, throwable) -> {
+            if (throwable == null) {
+                return null;
+            }
+            var cause = rootCause(throwable);
+            if (!(cause instanceof SdkServiceException exception && DEFINITIVE_STATUS_CODES.contains(exception.statusCode()))) {
+                probes.remove(key, probe);
+            }
+            return Objects.requireNonNullElse(cause.getMessage(), cause.getClass().getSimpleName());
+        });
+    }
+
+    private CompletableFuture<Void> headBucket(DataAddress address) {
+        try {
+            return bucketProbe.headBucket(address);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private Throwable rootCause(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null ? throwable.getCause() : throwable;
+    }
+
+    /**
+     * Identifies a bucket as seen with the credentials of an address, since the same bucket can be reachable with one
+     * role or key and forbidden with another. The credentials are identified like the S3 client resolves them: by role
+     * name, then by access key id, then by the vault alias.
+     */
+    private record BucketKey(String bucketName, String region, @Nullable String endpointOverride, @Nullable String credentials) {
+        static BucketKey of(DataAddress address) {
+            return new BucketKey(address.getStringProperty(BUCKET_NAME), address.getStringProperty(REGION), address.getStringProperty(ENDPOINT_OVERRIDE),
+                    credentials(address));
+        }
+
+        private static @Nullable String credentials(DataAddress address) {
+            if (address.getStringProperty(ROLE_NAME) != null) {
+                return "role:" + address.getStringProperty(ROLE_NAME);
+            }
+            if (address.getStringProperty(ACCESS_KEY_ID) != null && address.getStringProperty(SECRET_ACCESS_KEY) != null) {
+                return "accessKeyId:" + address.getStringProperty(ACCESS_KEY_ID);
+            }
+            return address.getKeyName() == null ? null : "keyName:" + address.getKeyName();
+        }
+    }
+
+    private record CachedProbe(CompletableFuture<Void> result, Instant expiresAt) {
+    }
+
+    public static class Builder {
+        private final S3BulkDataAddressValidator instance;
+
+        private Builder() {
+            instance = new S3BulkDataAddressValidator();
+        }
+
+        public static Builder newInstance() {
+            return new Builder();
+        }
+
+        /**
+         * The validator every single address is validated with, usually the {@link S3SourceDataAddressValidator}.
+         */
+        public Builder validator(Validator<DataAddress> validator) {
+            instance.validator = validator;
+            return this;
+        }
+
+        public Builder pool(ForkJoinPool pool) {
+            instance.pool = pool;
+            return this;
+        }
+
+        /**
+         * Enables the reachability check of the deep validation.
+         */
+        public Builder bucketProbe(S3BucketProbe bucketProbe) {
+            instance.bucketProbe = bucketProbe;
+            return this;
+        }
+
+        public Builder maxConcurrentProbes(int maxConcurrentProbes) {
+            instance.maxConcurrentProbes = maxConcurrentProbes;
+            return this;
+        }
+
+        public Builder probeCacheTtl(Duration probeCacheTtl) {
+            instance.probeCacheTtl = probeCacheTtl;
+            return this;
+        }
+
+        public Builder clock(Clock clock) {
+            instance.clock = clock;
+            return this;
+        }
+
+        public S3BulkDataAddressValidator build() {
+            Objects.requireNonNull(instance.validator, "validator");
+            return instance;
+        }
+    }
+}
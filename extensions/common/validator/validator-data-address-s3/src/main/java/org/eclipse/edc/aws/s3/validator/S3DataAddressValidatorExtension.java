@@ -14,22 +14,51 @@
 
 package org.eclipse.edc.aws.s3.validator;
 
+import org.eclipse.edc.aws.s3.spi.S3BucketProbe;
 import org.eclipse.edc.aws.s3.spi.S3BucketSchema;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Inject;
+import org.eclipse.edc.runtime.metamodel.annotation.Provider;
+import org.eclipse.edc.runtime.metamodel.annotation.Setting;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
 
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+
 import static org.eclipse.edc.aws.s3.validator.S3DataAddressValidatorExtension.NAME;
 
 @Extension(NAME)
 public class S3DataAddressValidatorExtension implements ServiceExtension {
     public static final String NAME = "DataAddress S3 Validator";
+    public static final int DEFAULT_BULK_PARALLELISM = 0;
+    public static final int DEFAULT_BULK_MAX_CONCURRENT_PROBES = 16;
+    public static final long DEFAULT_BULK_PROBE_CACHE_TTL_SECONDS = 300;
+
+    @Setting(key = "edc.aws.s3.validator.bulk.parallelism",
+            description = "The parallelism of the pool bulk validations run on, 0 to use the common fork-join pool",
+            defaultValue = DEFAULT_BULK_PARALLELISM + "")
+    private int bulkParallelism;
+
+    @Setting(key = "edc.aws.s3.validator.bulk.max-concurrent-probes",
+            description = "The maximum number of bucket reachability checks in flight during a deep bulk validation",
+            defaultValue = DEFAULT_BULK_MAX_CONCURRENT_PROBES + "")
+    private int bulkMaxConcurrentProbes;
+
+    @Setting(key = "edc.aws.s3.validator.bulk.probe-cache-ttl",
+            description = "The time in seconds the outcome of a bucket reachability check is reused",
+            defaultValue = DEFAULT_BULK_PROBE_CACHE_TTL_SECONDS + "")
+    private long bulkProbeCacheTtl;
 
     @Inject
     private DataAddressValidatorRegistry validatorRegistry;
 
+    @Inject(required = false)
+    private S3BucketProbe bucketProbe;
+
+    private ForkJoinPool bulkPool;
+
     @Override
     public String name() {
         return NAME;
@@ -42,4 +71,33 @@ public class S3DataAddressValidatorExtension implements ServiceExtension {
         validatorRegistry.registerSourceValidator(S3BucketSchema.TYPE, sourceValidator);
         validatorRegistry.registerDestinationValidator(S3BucketSchema.TYPE, destinationValidator);
     }
+
+    @Provider
+    public S3BulkDataAddressValidator s3BulkDataAddressValidator() {
+        var builder = S3BulkDataAddressValidator.Builder.newInstance()
+                .validator(new S3SourceDataAddressValidator())
+                .maxConcurrentProbes(bulkMaxConcurrentProbes)
+                .probeCacheTtl(Duration.ofSeconds(bulkProbeCacheTtl));
+        if (bulkParallelism > 0) {
+            builder.pool(bulkPool());
+        }
+        if (bucketProbe != null) {
+            builder.bucketProbe(bucketProbe);
+        }
+        return builder.build();
+    }
+
+    @Override
+    public void shutdown() {
+        if (bulkPool != null) {
+            bulkPool.shutdownNow();
+        }
+    }
+
+    private synchronized ForkJoinPool bulkPool() {
+        if (bulkPool == null) {
+            bulkPool = new ForkJoinPool(bulkParallelism);
+        }
+        return bulkPool;
+    }
 }
@@ -17,11 +17,18 @@ package org.eclipse.edc.aws.s3.validator;
 import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationResult;
 import org.eclipse.edc.validator.spi.Validator;
+import org.eclipse.edc.validator.spi.Violation;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ARCHIVE_FORMAT;
 import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION_LEVEL;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
 import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
 import static org.eclipse.edc.validator.spi.Violation.violation;
 
@@ -30,16 +37,22 @@ import static org.eclipse.edc.validator.spi.Violation.violation;
  */
 public class S3DestinationDataAddressValidator implements Validator<DataAddress> {
 
+    private static final List<String> ARCHIVE_FORMATS = List.of("tar", "zip");
+    private static final Map<String, LevelRange> COMPRESSION_LEVELS = Map.of("gzip", new LevelRange(0, 9), "zstd", new LevelRange(1, 22));
+
     @Override
     public ValidationResult validate(DataAddress dataAddress) {
-        var violations = Stream.of(BUCKET_NAME, REGION)
+        var archiveFormat = dataAddress.getStringProperty(ARCHIVE_FORMAT);
+        var mandatory = archiveFormat == null ? Stream.of(BUCKET_NAME, REGION) : Stream.of(BUCKET_NAME, REGION, OBJECT_NAME);
+
+        var violations = Stream.concat(mandatory
                 .map(it -> {
                     var value = dataAddress.getStringProperty(it);
                     if (value == null || value.isBlank()) {
                         return violation("'%s' is a mandatory attribute".formatted(it), it, value);
                     }
                     return null;
-                })
+                }), Stream.of(archiveFormatViolation(archiveFormat), compressionViolation(dataAddress)))
                 .filter(Objects::nonNull)
                 .toList();
 
@@ -50,4 +63,39 @@ public class S3DestinationDataAddressValidator implements Validator<DataAddress>
         return ValidationResult.failure(violations);
     }
 
+    private Violation archiveFormatViolation(String archiveFormat) {
+        if (archiveFormat == null || ARCHIVE_FORMATS.contains(archiveFormat.toLowerCase())) {
+            return null;
+        }
+        return violation("'%s' must be one of %s".formatted(ARCHIVE_FORMAT, ARCHIVE_FORMATS), ARCHIVE_FORMAT, archiveFormat);
+    }
+
+    private Violation compressionViolation(DataAddress dataAddress) {
+        var compression = dataAddress.getStringProperty(COMPRESSION);
+        if (compression == null || compression.trim().equalsIgnoreCase("none")) {
+            return null;
+        }
+        var levels = COMPRESSION_LEVELS.get(compression.trim().toLowerCase());
+        if (levels == null) {
+            return violation("'%s' must be one of [gzip, zstd, none]".formatted(COMPRESSION), COMPRESSION, compression);
+        }
+
+        var level = dataAddress.getStringProperty(COMPRESSION_LEVEL);
+        if (level == null) {
+            return null;
+        }
+        try {
+            var value = Integer.parseInt(level.trim());
+            if (value >= levels.min() && value <= levels.max()) {
+                return null;
+            }
+        } catch (NumberFormatException e) {
+            // reported below
+        }
+        return violation("'%s' must be an integer from %d to %d for %s".formatted(COMPRESSION_LEVEL, levels.min(), levels.max(), compression), COMPRESSION_LEVEL, level);
+    }
+
+    private record LevelRange(int min, int max) {
+    }
+
 }
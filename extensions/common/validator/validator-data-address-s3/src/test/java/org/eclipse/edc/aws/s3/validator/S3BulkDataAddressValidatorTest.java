@@ -0,0 +1,260 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.validator;
+
+import org.eclipse.edc.aws.s3.spi.S3BucketProbe;
+import org.eclipse.edc.spi.types.domain.DataAddress;
+import org.eclipse.edc.validator.spi.ValidationFailure;
+import org.eclipse.edc.validator.spi.ValidationResult;
+import org.eclipse.edc.validator.spi.Violation;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import software.amazon.awssdk.core.exception.SdkServiceException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ENDPOINT_OVERRIDE;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ROLE_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class S3BulkDataAddressValidatorTest {
+
+    private final S3BucketProbe bucketProbe = mock();
+
+    @Test
+    void validate_shouldReturnResultPerAddressInInputOrder() {
+        var validator = validator().build();
+        var addresses = IntStream.range(0, 10_000)
+                .mapToObj(i -> i % 2 == 0 ? address("bucket-" + i, "eu-west-1") : DataAddress.Builder.newInstance().type(TYPE).build())
+                .toList();
+
+        var results = validator.validate(addresses);
+
+        assertThat(results).hasSize(addresses.size());
+        assertThat(IntStream.range(0, results.size())).allSatisfy(i -> assertThat(results.get(i).succeeded()).isEqualTo(i % 2 == 0));
+        assertThat(violationPaths(results.get(1))).containsExactlyInAnyOrder(BUCKET_NAME, REGION);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "Bucket", "ab", "bucket..name", "192.168.0.1", "xn--bucket", "bucket-s3alias", "-bucket" })
+    void validateDeep_shouldFail_whenBucketNameViolatesNamingRules(String bucketName) {
+        var results = validator().build().validateDeep(List.of(address(bucketName, "eu-west-1"))).join();
+
+        assertThat(violationPaths(results.get(0))).containsExactly(BUCKET_NAME);
+    }
+
+    @Test
+    void validateDeep_shouldFail_whenRegionIsUnknown() {
+        var results = validator().build().validateDeep(List.of(address("bucket", "mars-north-1"))).join();
+
+        assertThat(violationPaths(results.get(0))).containsExactly(REGION);
+    }
+
+    @Test
+    void validateDeep_shouldAcceptCustomRegion_whenEndpointIsOverridden() {
+        var address = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucket")
+                .property(REGION, "minio")
+                .property(ENDPOINT_OVERRIDE, "http://localhost:9000")
+                .build();
+
+        var results = validator().build().validateDeep(List.of(address)).join();
+
+        assertThat(results.get(0).succeeded()).isTrue();
+    }
+
+    @Test
+    void validateDeep_shouldProbeEveryDistinctBucketOnce() {
+        when(bucketProbe.headBucket(any())).thenAnswer(invocation -> {
+            DataAddress address = invocation.getArgument(0);
+            return "missing".equals(address.getStringProperty(BUCKET_NAME))
+                    ? CompletableFuture.failedFuture(new IllegalStateException("NoSuchBucket"))
+                    : CompletableFuture.completedFuture(null);
+        });
+        var addresses = IntStream.range(0, 1_000)
+                .mapToObj(i -> address(i % 10 == 0 ? "missing" : "bucket-" + (i % 3), "eu-west-1"))
+                .toList();
+
+        var results = validator().bucketProbe(bucketProbe).maxConcurrentProbes(2).build().validateDeep(addresses).join();
+
+        verify(bucketProbe, times(4)).headBucket(any());
+        assertThat(results.get(0).failed()).isTrue();
+        assertThat(results.get(0)).extracting(ValidationResult::getFailure).extracting(ValidationFailure::getMessages).asString().contains("NoSuchBucket");
+        assertThat(results.get(1).succeeded()).isTrue();
+    }
+
+    @Test
+    void validateDeep_shouldReuseCachedProbeUntilExpired() {
+        when(bucketProbe.headBucket(any())).thenReturn(CompletableFuture.completedFuture(null));
+        var clock = new AdjustableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        var validator = validator().bucketProbe(bucketProbe).probeCacheTtl(Duration.ofMinutes(5)).clock(clock).build();
+        var addresses = List.of(address("bucket", "eu-west-1"));
+
+        validator.validateDeep(addresses).join();
+        validator.validateDeep(addresses).join();
+        verify(bucketProbe, times(1)).headBucket(any());
+
+        clock.advance(Duration.ofMinutes(6));
+        validator.validateDeep(addresses).join();
+        verify(bucketProbe, times(2)).headBucket(any());
+    }
+
+    @Test
+    void validateDeep_shouldProbeAgain_whenProbeFailedTransiently() {
+        when(bucketProbe.headBucket(any()))
+                .thenReturn(CompletableFuture.failedFuture(SdkServiceException.builder().statusCode(503).message("SlowDown").build()))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        var validator = validator().bucketProbe(bucketProbe).build();
+        var addresses = List.of(address("bucket", "eu-west-1"));
+
+        assertThat(validator.validateDeep(addresses).join().get(0).failed()).isTrue();
+        assertThat(validator.validateDeep(addresses).join().get(0).succeeded()).isTrue();
+        verify(bucketProbe, times(2)).headBucket(any());
+    }
+
+    @Test
+    void validateDeep_shouldReuseCachedProbe_whenBucketDoesNotExist() {
+        when(bucketProbe.headBucket(any()))
+                .thenReturn(CompletableFuture.failedFuture(SdkServiceException.builder().statusCode(404).message("NoSuchBucket").build()));
+        var validator = validator().bucketProbe(bucketProbe).build();
+        var addresses = List.of(address("bucket", "eu-west-1"));
+
+        validator.validateDeep(addresses).join();
+        var results = validator.validateDeep(addresses).join();
+
+        assertThat(results.get(0).failed()).isTrue();
+        verify(bucketProbe, times(1)).headBucket(any());
+    }
+
+    @Test
+    void validateDeep_shouldProbeAgain_whenOtherProbesExpired() {
+        when(bucketProbe.headBucket(any())).thenReturn(CompletableFuture.completedFuture(null));
+        var clock = new AdjustableClock(Instant.parse("2026-01-01T00:00:00Z"));
+        var validator = validator().bucketProbe(bucketProbe).probeCacheTtl(Duration.ofMinutes(5)).clock(clock).build();
+
+        validator.validateDeep(List.of(address("bucket-1", "eu-west-1"), address("bucket-2", "eu-west-1"))).join();
+        clock.advance(Duration.ofMinutes(6));
+        validator.validateDeep(List.of(address("bucket-3", "eu-west-1"))).join();
+        validator.validateDeep(List.of(address("bucket-1", "eu-west-1"), address("bucket-2", "eu-west-1"), address("bucket-3", "eu-west-1"))).join();
+
+        verify(bucketProbe, times(5)).headBucket(any());
+    }
+
+    @Test
+    void validateDeep_shouldProbeBucketPerCredentials() {
+        when(bucketProbe.headBucket(any())).thenAnswer(invocation -> {
+            DataAddress address = invocation.getArgument(0);
+            return "forbidden".equals(address.getStringProperty(ROLE_NAME))
+                    ? CompletableFuture.failedFuture(SdkServiceException.builder().statusCode(403).message("AccessDenied").build())
+                    : CompletableFuture.completedFuture(null);
+        });
+        var validator = validator().bucketProbe(bucketProbe).build();
+        var forbidden = DataAddress.Builder.newInstance().type(TYPE).property(BUCKET_NAME, "bucket").property(REGION, "eu-west-1")
+                .property(ROLE_NAME, "forbidden").build();
+        var allowed = DataAddress.Builder.newInstance().type(TYPE).property(BUCKET_NAME, "bucket").property(REGION, "eu-west-1")
+                .property(ROLE_NAME, "allowed").build();
+
+        var results = validator.validateDeep(List.of(forbidden, allowed)).join();
+
+        assertThat(results.get(0).failed()).isTrue();
+        assertThat(results.get(1).succeeded()).isTrue();
+        verify(bucketProbe, times(2)).headBucket(any());
+    }
+
+    @Test
+    void validateDeep_shouldFailAddress_whenProbeThrows() {
+        when(bucketProbe.headBucket(any()))
+                .thenThrow(new IllegalStateException("No client for region"))
+                .thenReturn(CompletableFuture.completedFuture(null));
+        var validator = validator().bucketProbe(bucketProbe).build();
+        var addresses = List.of(address("bucket", "eu-west-1"));
+
+        var results = validator.validateDeep(addresses).join();
+
+        assertThat(results.get(0)).extracting(ValidationResult::getFailure).extracting(ValidationFailure::getMessages).asString().contains("No client for region");
+        assertThat(validator.validateDeep(addresses).join().get(0).succeeded()).isTrue();
+    }
+
+    @Test
+    void validateDeep_shouldNotProbe_whenAddressFailedStaticChecks() {
+        var results = validator().bucketProbe(bucketProbe).build()
+                .validateDeep(List.of(DataAddress.Builder.newInstance().type(TYPE).build(), address("Invalid_Bucket", "eu-west-1")))
+                .join();
+
+        assertThat(results).allMatch(ValidationResult::failed);
+        verify(bucketProbe, times(0)).headBucket(any());
+    }
+
+    private S3BulkDataAddressValidator.Builder validator() {
+        return S3BulkDataAddressValidator.Builder.newInstance().validator(new S3SourceDataAddressValidator());
+    }
+
+    private DataAddress address(String bucketName, String region) {
+        return DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, bucketName)
+                .property(REGION, region)
+                .build();
+    }
+
+    private List<String> violationPaths(ValidationResult result) {
+        assertThat(result.failed()).isTrue();
+        return result.getFailure().getViolations().stream().map(Violation::path).toList();
+    }
+
+    private static class AdjustableClock extends Clock {
+        private Instant instant;
+
+        AdjustableClock(Instant instant) {
+            this.instant = instant;
+        }
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
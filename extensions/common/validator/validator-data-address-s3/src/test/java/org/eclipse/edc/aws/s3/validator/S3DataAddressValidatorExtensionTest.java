@@ -15,19 +15,32 @@
 package org.eclipse.edc.aws.s3.validator;
 
 
+import org.eclipse.edc.aws.s3.spi.S3BucketProbe;
 import org.eclipse.edc.aws.s3.spi.S3BucketSchema;
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.DataAddressValidatorRegistry;
+import org.eclipse.edc.validator.spi.ValidationResult;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 @ExtendWith(DependencyInjectionExtension.class)
 public class S3DataAddressValidatorExtensionTest {
@@ -47,4 +60,35 @@ public class S3DataAddressValidatorExtensionTest {
         verify(registry).registerDestinationValidator(eq(S3BucketSchema.TYPE), isA(S3DestinationDataAddressValidator.class));
 
     }
+
+    @Test
+    void s3BulkDataAddressValidator_shouldUseBucketProbe_whenAvailable(ObjectFactory factory, ServiceExtensionContext context) {
+        var bucketProbe = mock(S3BucketProbe.class);
+        context.registerService(S3BucketProbe.class, bucketProbe);
+
+        when(bucketProbe.headBucket(any())).thenReturn(CompletableFuture.completedFuture(null));
+        var address = DataAddress.Builder.newInstance()
+                .type(S3BucketSchema.TYPE)
+                .property(S3BucketSchema.BUCKET_NAME, "bucket")
+                .property(S3BucketSchema.REGION, "eu-west-1")
+                .build();
+
+        var validator = factory.constructInstance(S3DataAddressValidatorExtension.class).s3BulkDataAddressValidator();
+        var results = validator.validateDeep(List.of(address)).join();
+
+        assertThat(results).allMatch(ValidationResult::succeeded);
+        verify(bucketProbe).headBucket(address);
+    }
+
+    @Test
+    void shutdown_shouldShutdownBulkPool(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.aws.s3.validator.bulk.parallelism", "2")));
+        var extension = factory.constructInstance(S3DataAddressValidatorExtension.class);
+        var validator = extension.s3BulkDataAddressValidator();
+
+        extension.shutdown();
+
+        assertThatThrownBy(() -> validator.validate(List.of(DataAddress.Builder.newInstance().type(S3BucketSchema.TYPE).build())))
+                .isInstanceOf(RejectedExecutionException.class);
+    }
 }
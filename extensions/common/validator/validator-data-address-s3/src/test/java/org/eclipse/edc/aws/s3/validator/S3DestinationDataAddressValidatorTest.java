@@ -18,9 +18,15 @@ import org.eclipse.edc.spi.types.domain.DataAddress;
 import org.eclipse.edc.validator.spi.ValidationFailure;
 import org.eclipse.edc.validator.spi.Violation;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.ARCHIVE_FORMAT;
 import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.BUCKET_NAME;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.COMPRESSION_LEVEL;
+import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.OBJECT_NAME;
 import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.REGION;
 import static org.eclipse.edc.aws.s3.spi.S3BucketSchema.TYPE;
 import static org.eclipse.edc.junit.assertions.AbstractResultAssert.assertThat;
@@ -56,4 +62,109 @@ public class S3DestinationDataAddressValidatorTest {
                         .extracting(Violation::path)
                         .containsExactlyInAnyOrder(BUCKET_NAME, REGION));
     }
+
+    @Test
+    void should_pass_when_archive_format_is_valid() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(OBJECT_NAME, "objects.tar")
+                .property(ARCHIVE_FORMAT, "tar")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void should_fail_when_archive_format_is_set_without_object_name() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(ARCHIVE_FORMAT, "zip")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed()
+                .extracting(ValidationFailure::getViolations)
+                .satisfies(violations -> assertThat(violations)
+                        .extracting(Violation::path)
+                        .containsExactly(OBJECT_NAME));
+    }
+
+    @Test
+    void should_fail_when_archive_format_is_unknown() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(OBJECT_NAME, "objects.rar")
+                .property(ARCHIVE_FORMAT, "rar")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed()
+                .extracting(ValidationFailure::getViolations)
+                .satisfies(violations -> assertThat(violations)
+                        .extracting(Violation::path)
+                        .containsExactly(ARCHIVE_FORMAT));
+    }
+
+    @Test
+    void should_pass_when_compression_is_valid() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(COMPRESSION, "zstd")
+                .property(COMPRESSION_LEVEL, "19")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isSucceeded();
+    }
+
+    @Test
+    void should_fail_when_compression_is_unknown() {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(COMPRESSION, "brotli")
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed()
+                .extracting(ValidationFailure::getViolations)
+                .satisfies(violations -> assertThat(violations)
+                        .extracting(Violation::path)
+                        .containsExactly(COMPRESSION));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "10", "-1", "fast" })
+    void should_fail_when_compression_level_is_invalid(String level) {
+        var dataAddress = DataAddress.Builder.newInstance()
+                .type(TYPE)
+                .property(BUCKET_NAME, "bucketName")
+                .property(REGION, "region")
+                .property(COMPRESSION, "gzip")
+                .property(COMPRESSION_LEVEL, level)
+                .build();
+
+        var result = validator.validate(dataAddress);
+
+        assertThat(result).isFailed()
+                .extracting(ValidationFailure::getViolations)
+                .satisfies(violations -> assertThat(violations)
+                        .extracting(Violation::path)
+                        .containsExactly(COMPRESSION_LEVEL));
+    }
 }
@@ -18,6 +18,7 @@ plugins {
 
 dependencies {
     api(libs.edc.spi.core)
+    api(project(":spi:common:aws-spi"))
     implementation(libs.aws.secretsmanager)
     implementation(libs.edc.lib.util)
 
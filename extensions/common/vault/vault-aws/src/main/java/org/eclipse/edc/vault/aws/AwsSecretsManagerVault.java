@@ -14,6 +14,8 @@
 
 package org.eclipse.edc.vault.aws;
 
+import org.eclipse.edc.aws.spi.SecretChangeListener;
+import org.eclipse.edc.aws.spi.SecretChangeObservable;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.result.Result;
 import org.eclipse.edc.spi.security.Vault;
@@ -25,21 +27,50 @@ import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueReques
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.secretsmanager.model.UpdateSecretRequest;
 
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+
 /**
  * Vault adapter for AWS Secrets Manager.
+ * <p>
+ * The client can be handed over as a future that completes once it has been built, so that building it does not hold
+ * up the runtime start. Vault operations wait for the client; {@link #ready()} exposes the same future to callers
+ * that want to wait explicitly.
+ * <p>
+ * Registered {@link SecretChangeListener}s are notified after a secret has been stored or deleted through this vault.
  */
-public class AwsSecretsManagerVault implements Vault {
+public class AwsSecretsManagerVault implements Vault, SecretChangeObservable {
 
-    private final SecretsManagerClient smClient;
+    private final CompletableFuture<SecretsManagerClient> smClient;
     private final Monitor monitor;
     private final AwsSecretsManagerVaultSanitationStrategy sanitizer;
+    private final List<SecretChangeListener> listeners = new CopyOnWriteArrayList<>();
 
     public AwsSecretsManagerVault(SecretsManagerClient smClient, Monitor monitor, AwsSecretsManagerVaultSanitationStrategy sanitizer) {
+        this(CompletableFuture.completedFuture(smClient), monitor, sanitizer);
+    }
+
+    public AwsSecretsManagerVault(CompletableFuture<SecretsManagerClient> smClient, Monitor monitor, AwsSecretsManagerVaultSanitationStrategy sanitizer) {
         this.smClient = smClient;
         this.monitor = monitor;
         this.sanitizer = sanitizer;
     }
 
+    /**
+     * Completes when the Secrets Manager client is built, exceptionally if it could not be built.
+     *
+     * @return the ready future
+     */
+    public CompletableFuture<Void> ready() {
+        return smClient.thenApply(client -> null);
+    }
+
+    @Override
+    public void registerListener(SecretChangeListener listener) {
+        listeners.add(listener);
+    }
+
     /**
      * Retrieves a secret. Any string can be used as a key. Keys that do not comply with AWS Secrets Managers requirements
      * will be transformed.
@@ -53,7 +84,7 @@ public class AwsSecretsManagerVault implements Vault {
         var request = GetSecretValueRequest.builder().secretId(sanitizedKey).build();
         try {
             monitor.debug(String.format("Resolving secret '%s' from AWS Secrets manager", sanitizedKey));
-            return smClient.getSecretValue(request).secretString();
+            return client().getSecretValue(request).secretString();
         } catch (ResourceNotFoundException e) {
             monitor.debug(String.format("Couldn't resolve secret with key %s", sanitizedKey), e);
         } catch (RuntimeException serviceException) {
@@ -74,14 +105,16 @@ public class AwsSecretsManagerVault implements Vault {
         var sanitizedKey = sanitizer.sanitizeKey(key);
         try {
             var updateSecretRequest = UpdateSecretRequest.builder().secretId(sanitizedKey).secretString(value).build();
-            smClient.updateSecret(updateSecretRequest);
+            client().updateSecret(updateSecretRequest);
             monitor.debug(String.format("Secret '%s' updated in AWS Secrets Manager", sanitizedKey));
+            notifyChanged(key);
             return Result.success();
         } catch (ResourceNotFoundException e) {
             try {
                 var createSecretRequest = CreateSecretRequest.builder().name(sanitizedKey).secretString(value).build();
-                smClient.createSecret(createSecretRequest);
+                client().createSecret(createSecretRequest);
                 monitor.debug(String.format("Secret '%s' stored in AWS Secrets Manager", sanitizedKey));
+                notifyChanged(key);
                 return Result.success();
             } catch (RuntimeException serviceException) {
                 monitor.severe(serviceException.getMessage(), serviceException);
@@ -106,7 +139,8 @@ public class AwsSecretsManagerVault implements Vault {
                 .forceDeleteWithoutRecovery(true).build();
         try {
             monitor.debug(String.format("Deleting secret '%s' from AWS Secrets manager", sanitizedKey));
-            smClient.deleteSecret(request);
+            client().deleteSecret(request);
+            notifyChanged(key);
             return Result.success();
         } catch (RuntimeException serviceException) {
             monitor.severe(serviceException.getMessage(), serviceException);
@@ -114,4 +148,17 @@ public class AwsSecretsManagerVault implements Vault {
         }
     }
 
+    private void notifyChanged(String key) {
+        listeners.forEach(listener -> {
+            try {
+                listener.secretChanged(key);
+            } catch (RuntimeException e) {
+                monitor.warning("Secret change listener failed for key " + key, e);
+            }
+        });
+    }
+
+    private SecretsManagerClient client() {
+        return smClient.join();
+    }
 }
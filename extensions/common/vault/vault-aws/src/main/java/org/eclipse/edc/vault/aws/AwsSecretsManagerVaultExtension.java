@@ -17,20 +17,34 @@ package org.eclipse.edc.vault.aws;
 import org.eclipse.edc.runtime.metamodel.annotation.Extension;
 import org.eclipse.edc.runtime.metamodel.annotation.Provider;
 import org.eclipse.edc.runtime.metamodel.annotation.Setting;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.monitor.Monitor;
 import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtension;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.ContainerCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.InstanceProfileCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.ProfileCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.SystemPropertyCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.WebIdentityTokenFileCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 
 import java.net.URI;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * This extension registers an implementation of the Vault interface for AWS Secrets Manager.
  * It also registers a VaultPrivateKeyResolver and VaultCertificateResolver, which store and retrieve certificates
  * using the AWS Secretes Manager Vault implementation.
  * The extension requires the "edc.vault.aws.region" parameter to be set to the AWS region in which secrets should be stored.
+ * The Secrets Manager client is built on a background thread by default, so that SDK class loading and credentials
+ * resolution do not delay the runtime start.
  */
 @Extension(value = org.eclipse.edc.vault.aws.AwsSecretsManagerVaultExtension.NAME)
 public class AwsSecretsManagerVaultExtension implements ServiceExtension {
@@ -45,6 +59,19 @@ public class AwsSecretsManagerVaultExtension implements ServiceExtension {
             required = false)
     private String vaultAwsEndpointOverride;
 
+    @Setting(key = "edc.vault.aws.client.background-init",
+            description = "If true, the AWS Secrets Manager client is built on a background thread and vault operations wait for it",
+            defaultValue = "true")
+    private boolean backgroundInit;
+
+    @Setting(key = "edc.vault.aws.credentials.provider",
+            description = "The credentials provider of the AWS Secrets Manager client, one of 'default', 'environment', 'system-properties', " +
+                    "'web-identity', 'profile', 'container' or 'instance-profile'. Anything but 'default' skips the provider chain lookup",
+            defaultValue = "default")
+    private String credentialsProvider;
+
+    private CompletableFuture<SecretsManagerClient> smClient;
+
     @Override
     public String name() {
         return NAME;
@@ -55,13 +82,53 @@ public class AwsSecretsManagerVaultExtension implements ServiceExtension {
         var vaultEndpointOverride = Optional.ofNullable(vaultAwsEndpointOverride)
                 .map(URI::create)
                 .orElse(null);
+        var region = Region.of(vaultRegion);
+        var credentials = credentialsProvider(credentialsProvider);
+        var monitor = context.getMonitor();
+
+        smClient = backgroundInit
+                ? CompletableFuture.supplyAsync(() -> buildClient(region, vaultEndpointOverride, credentials, monitor), daemonThread())
+                : CompletableFuture.completedFuture(buildClient(region, vaultEndpointOverride, credentials, monitor));
+
+        return new AwsSecretsManagerVault(smClient, monitor, new AwsSecretsManagerVaultDefaultSanitationStrategy(monitor));
+    }
 
-        var builder = SecretsManagerClient.builder()
-                .region(Region.of(vaultRegion))
-                .endpointOverride(vaultEndpointOverride);
-        var smClient = builder.build();
+    @Override
+    public void shutdown() {
+        if (smClient != null) {
+            smClient.thenAccept(SecretsManagerClient::close);
+        }
+    }
+
+    private SecretsManagerClient buildClient(Region region, URI endpointOverride, AwsCredentialsProvider credentials, Monitor monitor) {
+        var start = System.nanoTime();
+        var client = SecretsManagerClient.builder()
+                .region(region)
+                .endpointOverride(endpointOverride)
+                .credentialsProvider(credentials)
+                .build();
+        monitor.debug(() -> "AWS Secrets Manager client built in %d ms".formatted((System.nanoTime() - start) / 1_000_000));
+        return client;
+    }
+
+    private AwsCredentialsProvider credentialsProvider(String name) {
+        return switch (name) {
+            case "default" -> DefaultCredentialsProvider.builder().build();
+            case "environment" -> EnvironmentVariableCredentialsProvider.create();
+            case "system-properties" -> SystemPropertyCredentialsProvider.create();
+            case "web-identity" -> WebIdentityTokenFileCredentialsProvider.create();
+            case "profile" -> ProfileCredentialsProvider.create();
+            case "container" -> ContainerCredentialsProvider.builder().build();
+            case "instance-profile" -> InstanceProfileCredentialsProvider.create();
+            default -> throw new EdcException("Unknown AWS credentials provider '%s' in setting edc.vault.aws.credentials.provider".formatted(name));
+        };
+    }
 
-        return new AwsSecretsManagerVault(smClient, context.getMonitor(),
-                new AwsSecretsManagerVaultDefaultSanitationStrategy(context.getMonitor()));
+    private Executor daemonThread() {
+        return runnable -> {
+            var thread = new Thread(runnable, "aws-secrets-manager-init");
+            thread.setDaemon(true);
+            thread.start();
+        };
     }
 }
@@ -14,21 +14,29 @@
 
 package org.eclipse.edc.vault.aws;
 
+import org.assertj.core.api.ObjectAssert;
 import org.eclipse.edc.boot.system.injection.ObjectFactory;
 import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.EdcException;
 import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.security.Vault;
 import org.eclipse.edc.spi.system.ServiceExtensionContext;
 import org.eclipse.edc.spi.system.configuration.ConfigFactory;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import software.amazon.awssdk.auth.credentials.EnvironmentVariableCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 
 import java.net.URI;
+import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.InstanceOfAssertFactories.type;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -36,6 +44,11 @@ import static org.mockito.Mockito.when;
 @ExtendWith(DependencyInjectionExtension.class)
 class AwsSecretsManagerVaultExtensionTest {
 
+    @BeforeEach
+    void setup(ServiceExtensionContext context) {
+        when(context.getMonitor()).thenReturn(mock(Monitor.class));
+    }
+
     @Test
     void configOptionRegionNotProvided_shouldThrowException(ServiceExtensionContext context) {
         when(context.getMonitor()).thenReturn(mock(Monitor.class));
@@ -55,11 +68,7 @@ class AwsSecretsManagerVaultExtensionTest {
 
         var vault = extension.createVault(context);
 
-        assertThat(vault).extracting("smClient", type(SecretsManagerClient.class))
-                .satisfies(client -> {
-                    assertThat(client.serviceClientConfiguration().region()).isEqualTo(
-                            Region.of("eu-west-1"));
-                });
+        assertThatClient(vault).satisfies(client -> assertThat(client.serviceClientConfiguration().region()).isEqualTo(Region.of("eu-west-1")));
     }
 
     @Test
@@ -74,10 +83,59 @@ class AwsSecretsManagerVaultExtensionTest {
 
         var vault = extension.createVault(context);
 
-        assertThat(vault).extracting("smClient", type(SecretsManagerClient.class))
-                .satisfies(client -> {
-                    assertThat(client.serviceClientConfiguration().endpointOverride()).contains(
-                            URI.create("http://localhost:4566"));
-                });
+        assertThatClient(vault).satisfies(client -> assertThat(client.serviceClientConfiguration().endpointOverride()).contains(URI.create("http://localhost:4566")));
+    }
+
+    @Test
+    void createVault_shouldBuildClientInBackground_andCompleteReadyFuture(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of("edc.vault.aws.region", "eu-west-1")));
+        var extension = factory.constructInstance(AwsSecretsManagerVaultExtension.class);
+
+        var vault = (AwsSecretsManagerVault) extension.createVault(context);
+
+        assertThat(vault.ready()).succeedsWithin(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void createVault_shouldBuildClientSynchronously_whenBackgroundInitIsDisabled(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                "edc.vault.aws.region", "eu-west-1",
+                "edc.vault.aws.client.background-init", "false"
+        )));
+        var extension = factory.constructInstance(AwsSecretsManagerVaultExtension.class);
+
+        var vault = (AwsSecretsManagerVault) extension.createVault(context);
+
+        assertThat(vault.ready()).isDone();
+    }
+
+    @Test
+    void createVault_shouldUseConfiguredCredentialsProvider(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                "edc.vault.aws.region", "eu-west-1",
+                "edc.vault.aws.credentials.provider", "environment"
+        )));
+        var extension = factory.constructInstance(AwsSecretsManagerVaultExtension.class);
+
+        var vault = extension.createVault(context);
+
+        assertThatClient(vault).satisfies(client -> assertThat(client.serviceClientConfiguration().credentialsProvider())
+                .isInstanceOf(EnvironmentVariableCredentialsProvider.class));
+    }
+
+    @Test
+    void createVault_shouldFail_whenCredentialsProviderIsUnknown(ObjectFactory factory, ServiceExtensionContext context) {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                "edc.vault.aws.region", "eu-west-1",
+                "edc.vault.aws.credentials.provider", "unknown"
+        )));
+        var extension = factory.constructInstance(AwsSecretsManagerVaultExtension.class);
+
+        assertThatThrownBy(() -> extension.createVault(context)).isInstanceOf(EdcException.class);
+    }
+
+    private ObjectAssert<SecretsManagerClient> assertThatClient(Vault vault) {
+        return assertThat(vault).extracting("smClient", type(CompletableFuture.class))
+                .succeedsWithin(Duration.ofSeconds(30), type(SecretsManagerClient.class));
     }
 }
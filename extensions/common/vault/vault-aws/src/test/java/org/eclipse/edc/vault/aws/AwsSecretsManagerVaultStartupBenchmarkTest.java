@@ -0,0 +1,126 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.vault.aws;
+
+import org.eclipse.edc.boot.system.injection.ObjectFactory;
+import org.eclipse.edc.junit.extensions.DependencyInjectionExtension;
+import org.eclipse.edc.spi.monitor.Monitor;
+import org.eclipse.edc.spi.system.ServiceExtensionContext;
+import org.eclipse.edc.spi.system.configuration.ConfigFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.TestReporter;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Measures the startup cost of the {@link AwsSecretsManagerVaultExtension} up to the first secret lookup, for the
+ * default credentials provider chain and a single provider, with and without building the client on a background
+ * thread. The extension is configured through its settings only. A run creates the vault, spends
+ * {@link #OTHER_EXTENSIONS_INIT_MS} on the initialization of other extensions and then resolves a secret, which builds
+ * the client if needed and resolves the credentials. The endpoint is a closed local port and the SDK makes a single
+ * attempt, so the lookup ends right after the credentials were resolved.
+ * <p>
+ * The first run of the JVM also loads the SDK classes and is reported separately from the median of the other runs.
+ * The figures are published as test report entries. Only runs when the {@code EDC_AWS_VAULT_BENCHMARK} environment
+ * variable is {@code true}.
+ */
+@EnabledIfEnvironmentVariable(named = "EDC_AWS_VAULT_BENCHMARK", matches = "true")
+@ExtendWith(DependencyInjectionExtension.class)
+class AwsSecretsManagerVaultStartupBenchmarkTest {
+
+    private static final int RUNS = 10;
+    private static final long OTHER_EXTENSIONS_INIT_MS = 300;
+    private static final String MAX_ATTEMPTS = "aws.maxAttempts";
+
+    private static String maxAttempts;
+    private static int closedPort;
+
+    @BeforeAll
+    static void setupAll() throws IOException {
+        maxAttempts = System.setProperty(MAX_ATTEMPTS, "1");
+        try (var socket = new ServerSocket(0)) {
+            closedPort = socket.getLocalPort();
+        }
+    }
+
+    @AfterAll
+    static void tearDownAll() {
+        if (maxAttempts == null) {
+            System.clearProperty(MAX_ATTEMPTS);
+        } else {
+            System.setProperty(MAX_ATTEMPTS, maxAttempts);
+        }
+    }
+
+    @BeforeEach
+    void setup(ServiceExtensionContext context) {
+        when(context.getMonitor()).thenReturn(mock(Monitor.class));
+    }
+
+    @ParameterizedTest(name = "credentials.provider={0}, background-init={1}")
+    @CsvSource({ "default, false", "default, true", "environment, false", "environment, true" })
+    void startup(String credentialsProvider, boolean backgroundInit, ObjectFactory factory, ServiceExtensionContext context, TestReporter reporter)
+            throws InterruptedException {
+        when(context.getConfig()).thenReturn(ConfigFactory.fromMap(Map.of(
+                "edc.vault.aws.region", "eu-west-1",
+                "edc.vault.aws.endpoint.override", "http://127.0.0.1:" + closedPort,
+                "edc.vault.aws.credentials.provider", credentialsProvider,
+                "edc.vault.aws.client.background-init", String.valueOf(backgroundInit)
+        )));
+
+        var createVault = new ArrayList<Long>();
+        var firstLookup = new ArrayList<Long>();
+        for (var i = 0; i < RUNS; i++) {
+            var extension = factory.constructInstance(AwsSecretsManagerVaultExtension.class);
+
+            var start = System.nanoTime();
+            var vault = extension.createVault(context);
+            var created = System.nanoTime();
+            Thread.sleep(OTHER_EXTENSIONS_INIT_MS);
+            vault.resolveSecret("benchmark");
+            var resolved = System.nanoTime();
+
+            createVault.add(TimeUnit.NANOSECONDS.toMillis(created - start));
+            firstLookup.add(TimeUnit.NANOSECONDS.toMillis(resolved - start));
+            extension.shutdown();
+        }
+
+        reporter.publishEntry(Map.of(
+                "createVault.first.ms", String.valueOf(createVault.get(0)),
+                "createVault.median.ms", String.valueOf(median(createVault.subList(1, RUNS))),
+                "firstLookup.first.ms", String.valueOf(firstLookup.get(0)),
+                "firstLookup.median.ms", String.valueOf(median(firstLookup.subList(1, RUNS))),
+                "otherExtensions.ms", String.valueOf(OTHER_EXTENSIONS_INIT_MS)
+        ));
+    }
+
+    private static long median(List<Long> values) {
+        return values.stream().sorted().toList().get(values.size() / 2);
+    }
+}
@@ -14,6 +14,7 @@
 
 package org.eclipse.edc.vault.aws;
 
+import org.eclipse.edc.aws.spi.SecretChangeListener;
 import org.eclipse.edc.spi.monitor.Monitor;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
@@ -24,9 +25,13 @@ import software.amazon.awssdk.services.secretsmanager.SecretsManagerClient;
 import software.amazon.awssdk.services.secretsmanager.model.CreateSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.DeleteSecretRequest;
 import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueRequest;
+import software.amazon.awssdk.services.secretsmanager.model.GetSecretValueResponse;
 import software.amazon.awssdk.services.secretsmanager.model.ResourceNotFoundException;
 import software.amazon.awssdk.services.secretsmanager.model.UpdateSecretRequest;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.TestInstance.Lifecycle;
 import static org.mockito.ArgumentMatchers.any;
@@ -140,4 +145,50 @@ class AwsSecretsManagerVaultTest {
         verify(monitor).debug(anyString());
         verify(monitor).severe(anyString(), ArgumentMatchers.isA(RuntimeException.class));
     }
+
+    @Test
+    void resolveSecret_shouldWaitForClient_whenClientIsBuiltInBackground() {
+        var client = new CompletableFuture<SecretsManagerClient>();
+        var backgroundVault = new AwsSecretsManagerVault(client, monitor, sanitizer);
+        when(secretClient.getSecretValue(GetSecretValueRequest.builder().secretId(SANITIZED_KEY).build()))
+                .thenReturn(GetSecretValueResponse.builder().secretString("value").build());
+
+        assertThat(backgroundVault.ready()).isNotDone();
+        CompletableFuture.delayedExecutor(100, TimeUnit.MILLISECONDS).execute(() -> client.complete(secretClient));
+
+        assertThat(backgroundVault.resolveSecret(KEY)).isEqualTo("value");
+        assertThat(backgroundVault.ready()).isDone();
+    }
+
+    @Test
+    void storeSecret_shouldFail_whenClientCouldNotBeBuilt() {
+        var backgroundVault = new AwsSecretsManagerVault(CompletableFuture.failedFuture(new IllegalStateException("no credentials")), monitor, sanitizer);
+
+        var result = backgroundVault.storeSecret(KEY, "value");
+
+        assertThat(result.failed()).isTrue();
+        assertThat(backgroundVault.ready()).isCompletedExceptionally();
+    }
+
+    @Test
+    void storeAndDeleteSecret_shouldNotifyListeners() {
+        var listener = mock(SecretChangeListener.class);
+        vault.registerListener(listener);
+
+        vault.storeSecret(KEY, "value");
+        vault.deleteSecret(KEY);
+
+        verify(listener, times(2)).secretChanged(KEY);
+    }
+
+    @Test
+    void storeSecret_shouldNotNotifyListeners_whenStoreFails() {
+        var listener = mock(SecretChangeListener.class);
+        vault.registerListener(listener);
+        doThrow(new RuntimeException("test")).when(secretClient).updateSecret(any(UpdateSecretRequest.class));
+
+        vault.storeSecret(KEY, "value");
+
+        verify(listener, never()).secretChanged(any());
+    }
 }
@@ -24,6 +24,8 @@ pluginManagement {
     }
 }
 
+include(":extensions:common:aws:aws-s3-core")
+include(":extensions:common:aws:aws-s3-telemetry")
 include(":extensions:common:vault:vault-aws")
 include(":extensions:common:validator:validator-data-address-s3")
 
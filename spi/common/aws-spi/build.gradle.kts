@@ -18,7 +18,10 @@ plugins {
 }
 
 dependencies {
+    api(libs.edc.spi.core)
+    api(libs.aws.sts)
 
+    testImplementation(libs.edc.junit)
 }
 
 
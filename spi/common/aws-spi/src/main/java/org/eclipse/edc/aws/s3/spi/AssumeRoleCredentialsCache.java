@@ -0,0 +1,132 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.jetbrains.annotations.Nullable;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.auth.StsAssumeRoleCredentialsProvider;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Caches assumed-role sessions for DataAddresses that use {@link S3BucketSchema#ROLE_NAME}, keyed by role ARN and
+ * session policy.
+ * <p>
+ * Every cache entry is backed by a {@link StsAssumeRoleCredentialsProvider}, which refreshes the session in the
+ * background before it expires and lets a single caller perform the {@code AssumeRole} call while concurrent callers
+ * for the same role wait for that result instead of issuing their own.
+ * <p>
+ * The {@link StsClient} is only requested from its supplier when the first role is assumed, so runtimes that never
+ * assume a role do not build one.
+ */
+public class AssumeRoleCredentialsCache implements AutoCloseable {
+
+    public static final String DEFAULT_ROLE_SESSION_NAME = "edc-s3-transfer";
+    public static final Duration DEFAULT_SESSION_DURATION = Duration.ofHours(1);
+    public static final Duration DEFAULT_PREFETCH_TIME = Duration.ofMinutes(5);
+    public static final Duration DEFAULT_STALE_TIME = Duration.ofMinutes(1);
+
+    private final Supplier<StsClient> stsClient;
+    private final String roleSessionName;
+    private final Duration sessionDuration;
+    private final Duration prefetchTime;
+    private final Duration staleTime;
+    private final Map<CacheKey, StsAssumeRoleCredentialsProvider> providers = new ConcurrentHashMap<>();
+
+    public AssumeRoleCredentialsCache(StsClient stsClient) {
+        this(stsClient, DEFAULT_ROLE_SESSION_NAME, DEFAULT_SESSION_DURATION, DEFAULT_PREFETCH_TIME, DEFAULT_STALE_TIME);
+    }
+
+    public AssumeRoleCredentialsCache(Supplier<StsClient> stsClient) {
+        this(stsClient, DEFAULT_ROLE_SESSION_NAME, DEFAULT_SESSION_DURATION, DEFAULT_PREFETCH_TIME, DEFAULT_STALE_TIME);
+    }
+
+    public AssumeRoleCredentialsCache(StsClient stsClient, String roleSessionName, Duration sessionDuration, Duration prefetchTime, Duration staleTime) {
+        this(supplierOf(Objects.requireNonNull(stsClient, "stsClient")), roleSessionName, sessionDuration, prefetchTime, staleTime);
+    }
+
+    public AssumeRoleCredentialsCache(Supplier<StsClient> stsClient, String roleSessionName, Duration sessionDuration, Duration prefetchTime, Duration staleTime) {
+        this.stsClient = Objects.requireNonNull(stsClient, "stsClient");
+        this.roleSessionName = roleSessionName;
+        this.sessionDuration = sessionDuration;
+        this.prefetchTime = prefetchTime;
+        this.staleTime = staleTime;
+    }
+
+    /**
+     * Returns the credentials provider for the given role and session policy, creating it on first access. The
+     * returned provider is shared by all callers asking for the same role and policy and must not be closed by them.
+     *
+     * @param roleArn       the ARN of the role to assume, as given by {@link S3BucketSchema#ROLE_NAME}
+     * @param sessionPolicy optional inline session policy further restricting the assumed role
+     * @return the credentials provider
+     */
+    public AwsCredentialsProvider credentialsProvider(String roleArn, @Nullable String sessionPolicy) {
+        Objects.requireNonNull(roleArn, "roleArn");
+        return providers.computeIfAbsent(new CacheKey(roleArn, sessionPolicy), this::createProvider);
+    }
+
+    /**
+     * Removes and closes the cached session for the given role and session policy, if any.
+     *
+     * @param roleArn       the ARN of the assumed role
+     * @param sessionPolicy the session policy the session was created with
+     */
+    public void evict(String roleArn, @Nullable String sessionPolicy) {
+        var provider = providers.remove(new CacheKey(roleArn, sessionPolicy));
+        if (provider != null) {
+            provider.close();
+        }
+    }
+
+    /**
+     * Closes all cached sessions. The {@link StsClient} is owned by the caller and is left open.
+     */
+    @Override
+    public void close() {
+        providers.values().forEach(StsAssumeRoleCredentialsProvider::close);
+        providers.clear();
+    }
+
+    private StsAssumeRoleCredentialsProvider createProvider(CacheKey key) {
+        var request = AssumeRoleRequest.builder()
+                .roleArn(key.roleArn())
+                .roleSessionName(roleSessionName)
+                .durationSeconds((int) sessionDuration.toSeconds())
+                .policy(key.sessionPolicy())
+                .build();
+
+        return StsAssumeRoleCredentialsProvider.builder()
+                .stsClient(stsClient.get())
+                .refreshRequest(request)
+                .prefetchTime(prefetchTime)
+                .staleTime(staleTime)
+                .asyncCredentialUpdateEnabled(true)
+                .build();
+    }
+
+    private static Supplier<StsClient> supplierOf(StsClient stsClient) {
+        return () -> stsClient;
+    }
+
+    private record CacheKey(String roleArn, @Nullable String sessionPolicy) {
+    }
+}
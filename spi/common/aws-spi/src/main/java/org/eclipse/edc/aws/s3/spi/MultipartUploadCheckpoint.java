@@ -0,0 +1,89 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * State of a multipart upload that allows a restarted transfer to continue after the last completed part.
+ *
+ * @param bucket         the destination bucket
+ * @param key            the destination key
+ * @param uploadId       the id of the multipart upload returned by S3
+ * @param partSize       the size of every part but the last one
+ * @param fileSize       the size of the uploaded file when the upload was created
+ * @param fileModified   the last modification time of the uploaded file in epoch milliseconds when the upload was created
+ * @param completedParts the parts S3 has acknowledged, ordered by part number
+ */
+public record MultipartUploadCheckpoint(String bucket, String key, String uploadId, long partSize, long fileSize, long fileModified,
+                                        List<Part> completedParts) {
+
+    public MultipartUploadCheckpoint {
+        completedParts = completedParts.stream().sorted(Comparator.comparingInt(Part::partNumber)).toList();
+    }
+
+    /**
+     * Returns a copy of this checkpoint with the given part added.
+     *
+     * @param part the completed part
+     * @return the new checkpoint
+     */
+    public MultipartUploadCheckpoint withPart(Part part) {
+        var parts = new ArrayList<>(completedParts);
+        parts.removeIf(it -> it.partNumber() == part.partNumber());
+        parts.add(part);
+        return new MultipartUploadCheckpoint(bucket, key, uploadId, partSize, fileSize, fileModified, parts);
+    }
+
+    /**
+     * Whether the file has the size and modification time it had when the upload was created, i.e. the parts
+     * uploaded so far still belong to it.
+     *
+     * @param size     the current size of the file
+     * @param modified the current last modification time of the file in epoch milliseconds
+     * @return true if the file is unchanged
+     */
+    public boolean isSameFile(long size, long modified) {
+        return fileSize == size && fileModified == modified;
+    }
+
+    /**
+     * Whether the part with the given number has been completed.
+     *
+     * @param partNumber the part number
+     * @return true if the part is completed
+     */
+    public boolean isCompleted(int partNumber) {
+        return completedParts.stream().anyMatch(it -> it.partNumber() == partNumber);
+    }
+
+    /**
+     * A part acknowledged by S3.
+     *
+     * @param partNumber the 1-based part number
+     * @param eTag       the ETag S3 returned for the part
+     * @param checksum   the base64 encoded additional checksum of the part, null if the upload uses none
+     */
+    public record Part(int partNumber, String eTag, @Nullable String checksum) {
+
+        public Part(int partNumber, String eTag) {
+            this(partNumber, eTag, null);
+        }
+    }
+}
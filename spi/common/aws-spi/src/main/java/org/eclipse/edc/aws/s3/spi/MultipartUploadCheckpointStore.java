@@ -0,0 +1,51 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.eclipse.edc.spi.result.StoreResult;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Persists {@link MultipartUploadCheckpoint}s, so that an interrupted upload can be resumed instead of being
+ * started again from the first part.
+ */
+public interface MultipartUploadCheckpointStore {
+
+    /**
+     * Finds the checkpoint of a transfer.
+     *
+     * @param transferId the id of the transfer
+     * @return the checkpoint, or null if there is none
+     */
+    @Nullable
+    MultipartUploadCheckpoint find(String transferId);
+
+    /**
+     * Creates or replaces the checkpoint of a transfer.
+     *
+     * @param transferId the id of the transfer
+     * @param checkpoint the checkpoint
+     * @return success or failure
+     */
+    StoreResult<Void> save(String transferId, MultipartUploadCheckpoint checkpoint);
+
+    /**
+     * Deletes the checkpoint of a transfer, typically once the upload is complete.
+     *
+     * @param transferId the id of the transfer
+     * @return success or failure
+     */
+    StoreResult<Void> delete(String transferId);
+}
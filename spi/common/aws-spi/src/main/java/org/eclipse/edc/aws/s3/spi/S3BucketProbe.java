@@ -0,0 +1,35 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.eclipse.edc.spi.types.domain.DataAddress;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Checks whether the bucket an {@code AmazonS3} DataAddress points to exists and can be accessed with the credentials
+ * of the address, typically with a {@code HeadBucket} request.
+ */
+@FunctionalInterface
+public interface S3BucketProbe {
+
+    /**
+     * Probes the bucket of the given address.
+     *
+     * @param address the DataAddress
+     * @return completes normally if the bucket is reachable, exceptionally with the reason otherwise
+     */
+    CompletableFuture<Void> headBucket(DataAddress address);
+}
@@ -27,4 +27,7 @@ public interface S3BucketSchema {
     String OBJECT_NAME = "objectName";
     String SECRET_ACCESS_ALIAS_PREFIX = "secretAccessAlias-";
     String ROLE_NAME = "roleName";
+    String ARCHIVE_FORMAT = "archiveFormat";
+    String COMPRESSION = "compression";
+    String COMPRESSION_LEVEL = "compressionLevel";
 }
@@ -0,0 +1,88 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import java.time.Duration;
+
+/**
+ * Receives measurements of the requests S3 transfers issue. Operation names are the S3 API operation names, e.g.
+ * {@code UploadPart}, with ranged and part downloads reported as {@code GetObjectRange}. Downloads count as completed
+ * once their body has been read.
+ * <p>
+ * Methods are called on the I/O threads of the S3 client and must return quickly; all methods default to doing
+ * nothing, so implementations only override what they record.
+ */
+public interface S3TransferMetrics {
+
+    /**
+     * Records nothing.
+     */
+    S3TransferMetrics NOOP = new S3TransferMetrics() {
+    };
+
+    /**
+     * Called when a request completed successfully.
+     *
+     * @param operation the operation name
+     * @param bytes     the payload bytes sent or received by the request
+     * @param latency   the time from the start of the request to its completion, including retries
+     */
+    default void requestCompleted(String operation, long bytes, Duration latency) {
+    }
+
+    /**
+     * Called in addition to {@link #requestCompleted(String, long, Duration)} when the request belongs to a transfer,
+     * so that throughput can be derived per transfer.
+     *
+     * @param transferId the id of the transfer the request belongs to
+     * @param bytes      the payload bytes sent or received by the request
+     * @param latency    the time from the start of the request to its completion, including retries
+     */
+    default void transferRequestCompleted(String transferId, long bytes, Duration latency) {
+    }
+
+    /**
+     * Called when a request failed after all retries.
+     *
+     * @param operation the operation name
+     * @param latency   the time from the start of the request to its failure
+     */
+    default void requestFailed(String operation, Duration latency) {
+    }
+
+    /**
+     * Called when a request is sent again after a failed attempt.
+     *
+     * @param operation the operation name
+     */
+    default void retried(String operation) {
+    }
+
+    /**
+     * Called when S3 answered an attempt with {@code 503 SlowDown}.
+     *
+     * @param operation the operation name
+     */
+    default void throttled(String operation) {
+    }
+
+    /**
+     * Called when the number of payload bytes of requests in progress changes.
+     *
+     * @param delta the change, positive when a payload starts moving and negative when its request ends
+     */
+    default void inFlightBytesChanged(long delta) {
+    }
+}
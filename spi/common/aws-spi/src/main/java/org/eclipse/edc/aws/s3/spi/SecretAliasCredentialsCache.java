@@ -0,0 +1,169 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.eclipse.edc.aws.spi.SecretChangeListener;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.TypeManager;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Resolves S3 credentials that DataAddresses reference through a vault alias, typically a key starting with
+ * {@link S3BucketSchema#SECRET_ACCESS_ALIAS_PREFIX}. The secret is a JSON object with the {@code accessKeyId},
+ * {@code secretAccessKey} and optional {@code sessionToken} fields.
+ * <p>
+ * Parsed credentials are cached by alias, so a transfer does not pay a vault lookup and a parse. The entry of an alias
+ * is dropped when the vault reports a change of the secret through {@link SecretChangeListener#secretChanged(String)}.
+ * As secrets may also change outside the vault API, entries expire after {@code maxAge} regardless. Expired entries
+ * are evicted at most once per {@code maxAge} when credentials are loaded, and at most {@code maxEntries} entries are
+ * kept, evicting those that expire first, so aliases used by a single transfer do not accumulate.
+ * <p>
+ * The vault is called outside of any lock of the cache, so a slow vault does not block lookups of other aliases.
+ * Concurrent lookups of the same alias may load the secret more than once; the first result is kept, and a result
+ * loaded while any secret changed is returned to its caller but not cached.
+ * <p>
+ * The providers returned by {@link #credentialsProvider(String)} look the credentials up on every call, so clients
+ * built with them pick up a changed secret without being rebuilt.
+ */
+public class SecretAliasCredentialsCache implements SecretChangeListener {
+
+    public static final Duration DEFAULT_MAX_AGE = Duration.ofHours(1);
+    public static final int DEFAULT_MAX_ENTRIES = 10_000;
+
+    private final Vault vault;
+    private final TypeManager typeManager;
+    private final Duration maxAge;
+    private final int maxEntries;
+    private final Clock clock;
+    private final Map<String, CachedCredentials> credentials = new ConcurrentHashMap<>();
+    private final AtomicLong changes = new AtomicLong();
+    private volatile Instant nextSweep = Instant.MIN;
+
+    public SecretAliasCredentialsCache(Vault vault, TypeManager typeManager) {
+        this(vault, typeManager, DEFAULT_MAX_AGE, Clock.systemUTC());
+    }
+
+    public SecretAliasCredentialsCache(Vault vault, TypeManager typeManager, Duration maxAge, Clock clock) {
+        this(vault, typeManager, maxAge, DEFAULT_MAX_ENTRIES, clock);
+    }
+
+    public SecretAliasCredentialsCache(Vault vault, TypeManager typeManager, Duration maxAge, int maxEntries, Clock clock) {
+        this.vault = Objects.requireNonNull(vault, "vault");
+        this.typeManager = Objects.requireNonNull(typeManager, "typeManager");
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be positive, was " + maxEntries);
+        }
+        this.maxAge = maxAge;
+        this.maxEntries = maxEntries;
+        this.clock = clock;
+    }
+
+    /**
+     * Returns a credentials provider for the given alias. Resolving credentials through it fails with an
+     * {@link EdcException} if the vault has no secret for the alias or the secret cannot be parsed.
+     *
+     * @param alias the vault key of the credentials secret
+     * @return the credentials provider
+     */
+    public AwsCredentialsProvider credentialsProvider(String alias) {
+        Objects.requireNonNull(alias, "alias");
+        return () -> resolve(alias);
+    }
+
+    @Override
+    public void secretChanged(String key) {
+        // counted before the entry is dropped, so a load that read the old secret does not cache it afterwards
+        changes.incrementAndGet();
+        credentials.remove(key);
+    }
+
+    private AwsCredentials resolve(String alias) {
+        var now = clock.instant();
+        var cached = credentials.get(alias);
+        if (cached != null && cached.expiresAt().isAfter(now)) {
+            return cached.credentials();
+        }
+
+        var generation = changes.get();
+        var loaded = new CachedCredentials(load(alias), now.plus(maxAge));
+        if (cached == null) {
+            var concurrent = credentials.putIfAbsent(alias, loaded);
+            if (concurrent != null && changes.get() == generation) {
+                return concurrent.credentials();
+            }
+        } else {
+            credentials.replace(alias, cached, loaded);
+        }
+        if (changes.get() != generation) {
+            credentials.remove(alias, loaded);
+        } else {
+            evict(now);
+        }
+        return loaded.credentials();
+    }
+
+    private void evict(Instant now) {
+        if (credentials.size() <= maxEntries && now.isBefore(nextSweep)) {
+            return;
+        }
+        nextSweep = now.plus(maxAge);
+        credentials.values().removeIf(entry -> !entry.expiresAt().isAfter(now));
+        while (credentials.size() > maxEntries) {
+            credentials.entrySet().stream()
+                    .min(Map.Entry.comparingByValue(Comparator.comparing(CachedCredentials::expiresAt)))
+                    .ifPresent(entry -> credentials.remove(entry.getKey(), entry.getValue()));
+        }
+    }
+
+    private AwsCredentials load(String alias) {
+        var secret = vault.resolveSecret(alias);
+        if (secret == null) {
+            throw new EdcException("No secret found in vault for credentials alias " + alias);
+        }
+
+        Map<?, ?> token;
+        try {
+            token = typeManager.readValue(secret, Map.class);
+        } catch (RuntimeException e) {
+            throw new EdcException("Secret of credentials alias %s is not a valid JSON object".formatted(alias), e);
+        }
+
+        var accessKeyId = token.get("accessKeyId");
+        var secretAccessKey = token.get("secretAccessKey");
+        if (accessKeyId == null || secretAccessKey == null) {
+            throw new EdcException("Secret of credentials alias %s must contain 'accessKeyId' and 'secretAccessKey'".formatted(alias));
+        }
+        var sessionToken = token.get("sessionToken");
+        return sessionToken == null
+                ? AwsBasicCredentials.create(accessKeyId.toString(), secretAccessKey.toString())
+                : AwsSessionCredentials.create(accessKeyId.toString(), secretAccessKey.toString(), sessionToken.toString());
+    }
+
+    private record CachedCredentials(AwsCredentials credentials, Instant expiresAt) {
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.spi;
+
+/**
+ * Is notified when a secret in the vault has been created, updated or deleted, so that values derived from it can
+ * be discarded.
+ */
+@FunctionalInterface
+public interface SecretChangeListener {
+
+    /**
+     * Called after the secret with the given key has changed.
+     *
+     * @param key the key of the secret, as passed to the vault
+     */
+    void secretChanged(String key);
+}
@@ -0,0 +1,28 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.spi;
+
+/**
+ * Implemented by vaults that report changes of their secrets.
+ */
+public interface SecretChangeObservable {
+
+    /**
+     * Registers a listener that is called after every successful change of a secret.
+     *
+     * @param listener the listener
+     */
+    void registerListener(SecretChangeListener listener);
+}
@@ -0,0 +1,145 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.sts.StsClient;
+import software.amazon.awssdk.services.sts.model.AssumeRoleRequest;
+import software.amazon.awssdk.services.sts.model.AssumeRoleResponse;
+import software.amazon.awssdk.services.sts.model.AssumedRoleUser;
+import software.amazon.awssdk.services.sts.model.Credentials;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AssumeRoleCredentialsCacheTest {
+
+    private static final String ROLE_ARN = "arn:aws:iam::123456789012:role/test-role";
+
+    private final StsClient stsClient = mock();
+    private final AssumeRoleCredentialsCache cache = new AssumeRoleCredentialsCache(stsClient);
+
+    @BeforeEach
+    void setup() {
+        when(stsClient.assumeRole(any(AssumeRoleRequest.class))).thenAnswer(i -> {
+            Thread.sleep(50);
+            return assumeRoleResponse();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        cache.close();
+    }
+
+    @Test
+    void credentialsProvider_shouldReuseProviderForSameRoleAndPolicy() {
+        var first = cache.credentialsProvider(ROLE_ARN, null);
+        var second = cache.credentialsProvider(ROLE_ARN, null);
+
+        assertThat(first).isSameAs(second);
+    }
+
+    @Test
+    void credentialsProvider_shouldCreateDistinctProvidersPerSessionPolicy() {
+        var withoutPolicy = cache.credentialsProvider(ROLE_ARN, null);
+        var withPolicy = cache.credentialsProvider(ROLE_ARN, "{\"Version\":\"2012-10-17\"}");
+
+        assertThat(withoutPolicy).isNotSameAs(withPolicy);
+    }
+
+    @Test
+    void resolveCredentials_shouldAssumeRoleWithPolicy() {
+        var policy = "{\"Version\":\"2012-10-17\"}";
+
+        var credentials = cache.credentialsProvider(ROLE_ARN, policy).resolveCredentials();
+
+        assertThat(credentials.accessKeyId()).isEqualTo("accessKeyId");
+        var captor = ArgumentCaptor.forClass(AssumeRoleRequest.class);
+        verify(stsClient).assumeRole(captor.capture());
+        assertThat(captor.getValue().roleArn()).isEqualTo(ROLE_ARN);
+        assertThat(captor.getValue().policy()).isEqualTo(policy);
+    }
+
+    @Test
+    void resolveCredentials_shouldDeduplicateConcurrentAssumeRoleCalls() {
+        var executor = Executors.newFixedThreadPool(8);
+        try {
+            var futures = IntStream.range(0, 32)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> cache.credentialsProvider(ROLE_ARN, null).resolveCredentials(), executor))
+                    .toArray(CompletableFuture[]::new);
+
+            CompletableFuture.allOf(futures).join();
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(stsClient, times(1)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    void evict_shouldAssumeRoleAgainOnNextAccess() {
+        cache.credentialsProvider(ROLE_ARN, null).resolveCredentials();
+
+        cache.evict(ROLE_ARN, null);
+        cache.credentialsProvider(ROLE_ARN, null).resolveCredentials();
+
+        verify(stsClient, times(2)).assumeRole(any(AssumeRoleRequest.class));
+    }
+
+    @Test
+    void credentialsProvider_shouldRequestStsClientOnFirstRoleOnly() {
+        var supplied = new AtomicInteger();
+        var lazyCache = new AssumeRoleCredentialsCache(() -> {
+            supplied.incrementAndGet();
+            return stsClient;
+        });
+        assertThat(supplied).hasValue(0);
+
+        lazyCache.credentialsProvider(ROLE_ARN, null).resolveCredentials();
+
+        assertThat(supplied).hasValue(1);
+        lazyCache.close();
+    }
+
+    private AssumeRoleResponse assumeRoleResponse() {
+        return AssumeRoleResponse.builder()
+                .credentials(Credentials.builder()
+                        .accessKeyId("accessKeyId")
+                        .secretAccessKey("secretAccessKey")
+                        .sessionToken("sessionToken")
+                        .expiration(Instant.now().plus(1, ChronoUnit.HOURS))
+                        .build())
+                .assumedRoleUser(AssumedRoleUser.builder()
+                        .arn("arn:aws:sts::123456789012:assumed-role/test-role/edc-s3-transfer")
+                        .assumedRoleId("roleId:edc-s3-transfer")
+                        .build())
+                .build();
+    }
+}
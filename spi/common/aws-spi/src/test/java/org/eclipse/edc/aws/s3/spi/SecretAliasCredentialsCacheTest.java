@@ -0,0 +1,165 @@
+/*
+ *  Copyright (c) 2026 Bayerische Motoren Werke Aktiengesellschaft (BMW AG)
+ *
+ *  This program and the accompanying materials are made available under the
+ *  terms of the Apache License, Version 2.0 which is available at
+ *  https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  SPDX-License-Identifier: Apache-2.0
+ *
+ *  Contributors:
+ *       Bayerische Motoren Werke Aktiengesellschaft (BMW AG) - Initial implementation
+ *
+ */
+
+package org.eclipse.edc.aws.s3.spi;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eclipse.edc.spi.EdcException;
+import org.eclipse.edc.spi.security.Vault;
+import org.eclipse.edc.spi.types.TypeManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class SecretAliasCredentialsCacheTest {
+
+    private static final String ALIAS = S3BucketSchema.SECRET_ACCESS_ALIAS_PREFIX + "asset-1";
+
+    private final Vault vault = mock();
+    private final TypeManager typeManager = mock();
+    private final SecretAliasCredentialsCache cache = new SecretAliasCredentialsCache(vault, typeManager);
+
+    @BeforeEach
+    void setup() {
+        var objectMapper = new ObjectMapper();
+        when(typeManager.readValue(anyString(), eq(Map.class))).thenAnswer(i -> {
+            try {
+                return objectMapper.readValue(i.getArgument(0, String.class), Map.class);
+            } catch (JsonProcessingException e) {
+                throw new EdcException(e);
+            }
+        });
+    }
+
+    @Test
+    void credentialsProvider_shouldResolveSecretOnce() {
+        when(vault.resolveSecret(ALIAS)).thenReturn("{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}");
+        var provider = cache.credentialsProvider(ALIAS);
+
+        var first = provider.resolveCredentials();
+        var second = cache.credentialsProvider(ALIAS).resolveCredentials();
+
+        assertThat(first).isInstanceOf(AwsBasicCredentials.class).isSameAs(second);
+        assertThat(first.accessKeyId()).isEqualTo("AKIA1");
+        verify(vault, times(1)).resolveSecret(ALIAS);
+    }
+
+    @Test
+    void credentialsProvider_shouldReturnSessionCredentials_whenSecretContainsSessionToken() {
+        when(vault.resolveSecret(ALIAS)).thenReturn("{\"accessKeyId\":\"ASIA1\",\"secretAccessKey\":\"secret1\",\"sessionToken\":\"token\"}");
+
+        var credentials = cache.credentialsProvider(ALIAS).resolveCredentials();
+
+        assertThat(credentials).isInstanceOfSatisfying(AwsSessionCredentials.class, it -> assertThat(it.sessionToken()).isEqualTo("token"));
+    }
+
+    @Test
+    void secretChanged_shouldInvalidateCachedCredentials() {
+        when(vault.resolveSecret(ALIAS))
+                .thenReturn("{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}")
+                .thenReturn("{\"accessKeyId\":\"AKIA2\",\"secretAccessKey\":\"secret2\"}");
+        var provider = cache.credentialsProvider(ALIAS);
+        assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("AKIA1");
+
+        cache.secretChanged(ALIAS);
+
+        assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("AKIA2");
+        verify(vault, times(2)).resolveSecret(ALIAS);
+    }
+
+    @Test
+    void credentialsProvider_shouldNotCacheCredentials_whenSecretChangesWhileLoading() {
+        var provider = cache.credentialsProvider(ALIAS);
+        when(vault.resolveSecret(ALIAS)).thenAnswer(i -> {
+            cache.secretChanged(ALIAS);
+            return "{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}";
+        });
+
+        assertThat(provider.resolveCredentials().accessKeyId()).isEqualTo("AKIA1");
+        provider.resolveCredentials();
+
+        verify(vault, times(2)).resolveSecret(ALIAS);
+    }
+
+    @Test
+    void secretChanged_shouldNotAffectOtherAliases() {
+        when(vault.resolveSecret(ALIAS)).thenReturn("{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}");
+        var provider = cache.credentialsProvider(ALIAS);
+        provider.resolveCredentials();
+
+        cache.secretChanged("other-alias");
+        provider.resolveCredentials();
+
+        verify(vault, times(1)).resolveSecret(ALIAS);
+    }
+
+    @Test
+    void credentialsProvider_shouldReloadSecret_whenEntryIsExpired() {
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenReturn(Instant.parse("2026-01-01T00:00:00Z"), Instant.parse("2026-01-01T02:00:00Z"));
+        var expiringCache = new SecretAliasCredentialsCache(vault, typeManager, Duration.ofHours(1), clock);
+        when(vault.resolveSecret(ALIAS)).thenReturn("{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}");
+        var provider = expiringCache.credentialsProvider(ALIAS);
+
+        provider.resolveCredentials();
+        provider.resolveCredentials();
+
+        verify(vault, times(2)).resolveSecret(ALIAS);
+    }
+
+    @Test
+    void credentialsProvider_shouldEvictEntriesExpiringFirst_whenCacheIsFull() {
+        var seconds = new AtomicLong();
+        var clock = mock(Clock.class);
+        when(clock.instant()).thenAnswer(i -> Instant.parse("2026-01-01T00:00:00Z").plusSeconds(seconds.incrementAndGet()));
+        var boundedCache = new SecretAliasCredentialsCache(vault, typeManager, Duration.ofHours(1), 2, clock);
+        when(vault.resolveSecret(anyString())).thenReturn("{\"accessKeyId\":\"AKIA1\",\"secretAccessKey\":\"secret1\"}");
+
+        boundedCache.credentialsProvider("alias-1").resolveCredentials();
+        boundedCache.credentialsProvider("alias-2").resolveCredentials();
+        boundedCache.credentialsProvider("alias-3").resolveCredentials();
+        boundedCache.credentialsProvider("alias-2").resolveCredentials();
+        boundedCache.credentialsProvider("alias-1").resolveCredentials();
+
+        verify(vault, times(2)).resolveSecret("alias-1");
+        verify(vault, times(1)).resolveSecret("alias-2");
+    }
+
+    @Test
+    void credentialsProvider_shouldFail_whenSecretIsMissingOrInvalid() {
+        when(vault.resolveSecret(ALIAS)).thenReturn(null).thenReturn("not-json").thenReturn("{\"accessKeyId\":\"AKIA1\"}");
+        var provider = cache.credentialsProvider(ALIAS);
+
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(EdcException.class).hasMessageContaining("No secret found");
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(EdcException.class).hasMessageContaining("not a valid JSON object");
+        assertThatThrownBy(provider::resolveCredentials).isInstanceOf(EdcException.class).hasMessageContaining("secretAccessKey");
+    }
+}